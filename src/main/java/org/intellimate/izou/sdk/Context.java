@@ -5,6 +5,7 @@ import org.intellimate.izou.identification.Identifiable;
 import org.intellimate.izou.identification.Identification;
 import org.intellimate.izou.identification.IllegalIDException;
 import org.intellimate.izou.sdk.contentgenerator.EventListener;
+import org.intellimate.izou.sdk.metrics.Metrics;
 import org.intellimate.izou.sdk.properties.PropertiesAssistant;
 import org.intellimate.izou.sdk.specification.ContentGeneratorModel;
 import org.intellimate.izou.sdk.specification.context.ContentGenerators;
@@ -14,6 +15,12 @@ import org.intellimate.izou.system.context.System;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * The Izou context is a means for all addOns to get general information they might need. Every addOn its own context
@@ -31,6 +38,8 @@ public class Context implements org.intellimate.izou.system.Context {
     private final org.intellimate.izou.system.Context context;
     private final org.intellimate.izou.sdk.specification.context.ThreadPool threadPool;
     private final ContentGenerators contentGenerators;
+    private final Metrics metrics = new Metrics();
+    private final ConcurrentMap<Class<?>, Object> helpers = new ConcurrentHashMap<>();
 
     /**
      * Creates a context for the addOn.
@@ -135,6 +144,33 @@ public class Context implements org.intellimate.izou.system.Context {
         return contentGenerators;
     }
 
+    /**
+     * Returns the registry for the metrics of the addOn.
+     *
+     * @return Metrics
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the instance of the SDK-helper for the addOn, creates it if not already existing.
+     * <p>
+     * The instances are held by the Context, so they are released together with the addOn.
+     * </p>
+     *
+     * @param type the class of the helper
+     * @param create creates the helper, called at most once for every type
+     * @param <T> the type of the helper
+     * @return the instance of the helper
+     */
+    public <T> T getHelper(Class<T> type, Function<Context, T> create) {
+        Object helper = helpers.get(type);
+        if (helper == null)
+            helper = helpers.computeIfAbsent(type, key -> create.apply(this));
+        return type.cast(helper);
+    }
+
     /**
      * Returns the API used to manage the addOns.
      *
@@ -181,6 +217,7 @@ public class Context implements org.intellimate.izou.system.Context {
 
     private class ThreadPoolImpl implements org.intellimate.izou.sdk.specification.context.ThreadPool {
         private ExecutorService executorService = null;
+        private ScheduledExecutorService scheduler = null;
 
         /**
          * returns a ThreadPool associated with the AddOn
@@ -202,6 +239,25 @@ public class Context implements org.intellimate.izou.system.Context {
             }
         }
 
+        /**
+         * returns the Scheduler shared by all the modules of the AddOn.
+         *
+         * @return an instance of ScheduledExecutorService
+         */
+        @Override
+        public synchronized ScheduledExecutorService getScheduler() {
+            if (scheduler == null) {
+                String name = "izou-sdk-scheduler-" + getAddOns().getAddOn().getID() + "-";
+                AtomicInteger counter = new AtomicInteger();
+                scheduler = Executors.newScheduledThreadPool(1, runnable -> {
+                    Thread thread = new Thread(runnable, name + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return scheduler;
+        }
+
         /**
          * returns a NEW ThreadPool where all the IzouPlugins are running
          *
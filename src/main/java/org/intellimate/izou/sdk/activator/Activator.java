@@ -5,37 +5,267 @@ import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.util.AddOnModule;
 import org.intellimate.izou.sdk.util.FireEvent;
 
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * The Task of an Activator is to listen for whatever you choose to implement and fires events to notify a change.
  * <p>
  * The Activator always runs in the Background, just overwrite activatorStarts(). To use Activator simply extend from it
  * and hand an instance over to the ActivatorManager.
+ * By default activatorStarts() gets called in a loop, pass an ActivatorSchedule to the constructor to call it
+ * periodically, reactively or when a file or channel is ready.
  */
 public abstract class Activator extends AddOnModule implements ActivatorModel, FireEvent {
-    private boolean stop = false;
+    private volatile boolean stop = false;
+    private final ActivatorSchedule schedule;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile CompletableFuture<Void> running = null;
+    private volatile boolean triggeredEarly = false;
+    private volatile Runnable wakeUp = null;
 
     public Activator(Context context, String ID) {
+        this(context, ID, ActivatorSchedule.LOOP);
+    }
+
+    /**
+     * creates a new Activator
+     * @param context the current Context
+     * @param ID the ID
+     * @param schedule describes when activatorStarts() gets called
+     */
+    public Activator(Context context, String ID, ActivatorSchedule schedule) {
         super(context, ID);
+        this.schedule = schedule == null ? ActivatorSchedule.LOOP : schedule;
     }
 
     @Override
     public Boolean call() throws Exception {
-        while (!stop) {
-            activatorStarts();
-            Thread.sleep(10);
+        switch (schedule.getMode()) {
+            case LOOP:
+                while (!stop) {
+                    activatorStarts();
+                    Thread.sleep(TimeUnit.NANOSECONDS.toMillis(schedule.getPeriod()));
+                }
+                break;
+            case PERIODIC: {
+                CompletableFuture<Void> running = start();
+                ScheduledFuture<?> future = null;
+                try {
+                    future = getContext().getThreadPool().getScheduler()
+                            .scheduleAtFixedRate(this::trigger, 0, schedule.getPeriod(), TimeUnit.NANOSECONDS);
+                    awaitStop(running);
+                } finally {
+                    if (future != null)
+                        future.cancel(false);
+                }
+                break;
+            }
+            case REACTIVE:
+                awaitStop(start());
+                break;
+            case FILE:
+                watch(schedule.getDirectory());
+                break;
+            case CHANNEL:
+                select(schedule.getChannel());
+                break;
         }
         return false;
     }
 
     /**
-     * This method will be called in a loop.
+     * This method will be called in a loop (or as described by the ActivatorSchedule).
      */
     public abstract void activatorStarts();
 
+    /**
+     * requests a call of activatorStarts() for periodic and reactive activators, has no effect for the other modes.
+     * <p>
+     * activatorStarts() never runs concurrently, if it is already running it gets called once more afterwards.
+     * A call requested before the Activator was started is executed when it starts.
+     * </p>
+     */
+    protected void trigger() {
+        if (stop)
+            return;
+        if (running == null) {
+            triggeredEarly = true;
+            //start() sets running before checking triggeredEarly, so one of both executes the call
+            if (running == null)
+                return;
+        }
+        if (pending.getAndIncrement() == 0) {
+            try {
+                getExecutor().execute(this::drain);
+            } catch (RuntimeException e) {
+                pending.set(0);
+                error("unable to execute activator", e);
+            }
+        }
+    }
+
+    /**
+     * calls activatorStarts() until no further call was requested
+     */
+    private void drain() {
+        do {
+            pending.set(1);
+            if (stop)
+                break;
+            try {
+                activatorStarts();
+            } catch (Throwable throwable) {
+                CompletableFuture<Void> running = this.running;
+                if (running != null)
+                    running.completeExceptionally(throwable);
+            }
+        } while (pending.decrementAndGet() > 0);
+        if (stop)
+            pending.set(0);
+    }
+
+    /**
+     * starts accepting triggers and executes the trigger requested before the start
+     * @return the future completed when the activator gets stopped
+     */
+    private CompletableFuture<Void> start() {
+        CompletableFuture<Void> running = new CompletableFuture<>();
+        this.running = running;
+        if (stop)
+            running.complete(null);
+        if (triggeredEarly) {
+            triggeredEarly = false;
+            trigger();
+        }
+        return running;
+    }
+
+    /**
+     * blocks until the activator got stopped or activatorStarts() threw an exception
+     * @param running the future returned by start()
+     * @throws Exception the exception thrown by activatorStarts()
+     */
+    private void awaitStop(CompletableFuture<Void> running) throws Exception {
+        try {
+            running.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception)
+                throw (Exception) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        } finally {
+            this.running = null;
+        }
+    }
+
+    /**
+     * calls activatorStarts() every time an event happened in the directory
+     * @param directory the directory to watch
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void watch(Path directory) throws IOException, InterruptedException {
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            directory.register(watchService, schedule.getKinds());
+            wakeUp = () -> {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    error("unable to close WatchService", e);
+                }
+            };
+            while (!stop) {
+                WatchKey key = watchService.take();
+                key.pollEvents();
+                activatorStarts();
+                if (!key.reset())
+                    break;
+            }
+        } catch (ClosedWatchServiceException e) {
+            if (!stop)
+                throw e;
+        } finally {
+            wakeUp = null;
+        }
+    }
+
+    /**
+     * calls activatorStarts() every time the channel is readable
+     * @param channel the channel to watch
+     * @throws IOException if an I/O error occurs
+     */
+    private void select(SelectableChannel channel) throws IOException {
+        try (Selector selector = Selector.open()) {
+            channel.configureBlocking(false);
+            channel.register(selector, channel.validOps() & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT));
+            wakeUp = selector::wakeup;
+            while (!stop) {
+                if (selector.select() == 0)
+                    continue;
+                selector.selectedKeys().clear();
+                activatorStarts();
+            }
+        } catch (ClosedSelectorException e) {
+            if (!stop)
+                throw e;
+        } finally {
+            wakeUp = null;
+        }
+    }
+
+    /**
+     * returns the Executor to run periodic and reactive activators on
+     * @return the Executor
+     */
+    private Executor getExecutor() {
+        if (schedule.isVirtualThreads() && VirtualThreads.EXECUTOR != null)
+            return VirtualThreads.EXECUTOR;
+        Executor executor = getContext().getThreadPool().getThreadPool();
+        return executor != null ? executor : getContext().getThreadPool().getScheduler();
+    }
+
     /**
      * stops the activator.
      */
     public void stop() {
         stop = true;
+        CompletableFuture<Void> running = this.running;
+        if (running != null)
+            running.complete(null);
+        Runnable wakeUp = this.wakeUp;
+        if (wakeUp != null)
+            wakeUp.run();
+    }
+
+    /**
+     * holds the Executor for virtual threads, created on first use and null if the JVM doesn't support them
+     */
+    private static class VirtualThreads {
+        private static final Executor EXECUTOR = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,184 @@
+package org.intellimate.izou.sdk.activator;
+
+import java.nio.channels.SelectableChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * describes when the Activator calls activatorStarts().
+ * <p>
+ * Periodic and reactive activators call activatorStarts() on the ThreadPool of the AddOn (or on virtual threads, see
+ * {@link #withVirtualThreads()}) and are triggered by the Scheduler shared by all the modules of the AddOn, the
+ * Thread of the Activator only waits until it gets stopped. Activators waiting for a file or a channel block in the
+ * Thread of the Activator until it is ready.
+ * This class is immutable!
+ * </p>
+ * @version 1.0
+ */
+public final class ActivatorSchedule {
+    /**
+     * the default: activatorStarts() gets called in a loop, pausing 10 milliseconds after every call
+     */
+    public static final ActivatorSchedule LOOP = new ActivatorSchedule(Mode.LOOP, TimeUnit.MILLISECONDS.toNanos(10),
+            null, null, null, false);
+    private static final ActivatorSchedule REACTIVE = new ActivatorSchedule(Mode.REACTIVE, 0, null, null, null, false);
+    private final Mode mode;
+    private final long period;
+    private final Path directory;
+    private final WatchEvent.Kind<?>[] kinds;
+    private final SelectableChannel channel;
+    private final boolean virtualThreads;
+
+    private ActivatorSchedule(Mode mode, long period, Path directory, WatchEvent.Kind<?>[] kinds,
+                              SelectableChannel channel, boolean virtualThreads) {
+        this.mode = mode;
+        this.period = period;
+        this.directory = directory;
+        this.kinds = kinds;
+        this.channel = channel;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * activatorStarts() gets called at a fixed rate, the ticks arriving while the previous call is still running are
+     * coalesced into one further call after it finished (see {@link Activator#trigger()})
+     * @param period the period between the calls
+     * @param unit the TimeUnit of the period
+     * @return a new ActivatorSchedule
+     * @throws IllegalArgumentException if the period is not positive or unit is null
+     */
+    public static ActivatorSchedule periodic(long period, TimeUnit unit) throws IllegalArgumentException {
+        if (unit == null) throw new IllegalArgumentException("unit is null");
+        long nanos = unit.toNanos(period);
+        if (nanos <= 0) throw new IllegalArgumentException("period must be positive");
+        return new ActivatorSchedule(Mode.PERIODIC, nanos, null, null, null, false);
+    }
+
+    /**
+     * activatorStarts() only gets called when the Activator calls {@link Activator#trigger()}, for example from a
+     * callback of a library
+     * @return an ActivatorSchedule
+     */
+    public static ActivatorSchedule reactive() {
+        return REACTIVE;
+    }
+
+    /**
+     * activatorStarts() gets called every time a file in the directory got created, modified or deleted
+     * @param directory the directory to watch
+     * @return a new ActivatorSchedule
+     * @throws IllegalArgumentException if the directory is null
+     */
+    public static ActivatorSchedule onFileChange(Path directory) throws IllegalArgumentException {
+        return onFileChange(directory, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    /**
+     * activatorStarts() gets called every time one of the kinds of events happened in the directory
+     * @param directory the directory to watch
+     * @param kinds the kinds of events to watch for
+     * @return a new ActivatorSchedule
+     * @throws IllegalArgumentException if the directory is null or no kinds are passed
+     */
+    public static ActivatorSchedule onFileChange(Path directory, WatchEvent.Kind<?>... kinds)
+                                                                                    throws IllegalArgumentException {
+        if (directory == null) throw new IllegalArgumentException("directory is null");
+        if (kinds == null || kinds.length == 0) throw new IllegalArgumentException("no kinds of events");
+        return new ActivatorSchedule(Mode.FILE, 0, directory, kinds.clone(), null, false);
+    }
+
+    /**
+     * activatorStarts() gets called every time the channel is readable (or has a connection to accept).
+     * <p>
+     * The channel will be put into non-blocking mode. activatorStarts() has to consume the available data, otherwise
+     * it gets called again immediately.
+     * </p>
+     * @param channel the channel to watch
+     * @return a new ActivatorSchedule
+     * @throws IllegalArgumentException if the channel is null
+     */
+    public static ActivatorSchedule onReadable(SelectableChannel channel) throws IllegalArgumentException {
+        if (channel == null) throw new IllegalArgumentException("channel is null");
+        return new ActivatorSchedule(Mode.CHANNEL, 0, null, null, channel, false);
+    }
+
+    /**
+     * returns a new ActivatorSchedule which executes periodic and reactive activators on virtual threads, if the JVM
+     * supports them (else the ThreadPool of the AddOn is used)
+     * @return a new ActivatorSchedule
+     */
+    public ActivatorSchedule withVirtualThreads() {
+        return new ActivatorSchedule(mode, period, directory, kinds, channel, true);
+    }
+
+    /**
+     * returns the mode
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * returns the period (or the pause for LOOP)
+     * @return the period in nanoseconds
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * returns the watched directory
+     * @return the directory or null if the mode is not FILE
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * returns the watched kinds of events
+     * @return the kinds or null if the mode is not FILE
+     */
+    public WatchEvent.Kind<?>[] getKinds() {
+        return kinds == null ? null : kinds.clone();
+    }
+
+    /**
+     * returns the watched channel
+     * @return the channel or null if the mode is not CHANNEL
+     */
+    public SelectableChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * returns whether virtual threads should be used if available
+     * @return true if virtual threads should be used
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public String toString() {
+        return "ActivatorSchedule{" +
+                "mode=" + mode +
+                ", period=" + period +
+                ", directory=" + directory +
+                ", kinds=" + Arrays.toString(kinds) +
+                ", channel=" + channel +
+                ", virtualThreads=" + virtualThreads +
+                '}';
+    }
+
+    /**
+     * the different modes of an ActivatorSchedule
+     */
+    public enum Mode {
+        LOOP, PERIODIC, REACTIVE, FILE, CHANNEL
+    }
+}
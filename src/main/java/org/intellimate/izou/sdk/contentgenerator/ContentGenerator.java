@@ -3,6 +3,7 @@ package org.intellimate.izou.sdk.contentgenerator;
 import org.intellimate.izou.events.EventModel;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.metrics.Histogram;
 import org.intellimate.izou.sdk.resource.Resource;
 import org.intellimate.izou.sdk.specification.ContentGeneratorModel;
 import org.intellimate.izou.sdk.util.AddOnModule;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
  * </p>
  */
 public abstract class ContentGenerator extends AddOnModule implements ContentGeneratorModel, ResourceCreator {
+    private final Histogram provideResourceLatency;
 
     /**
      * Creates a new content generator.
@@ -30,6 +32,7 @@ public abstract class ContentGenerator extends AddOnModule implements ContentGen
      */
     public ContentGenerator(String id, Context context) {
         super(context, id);
+        provideResourceLatency = context.getMetrics().getHistogram(id + ".provideResource");
     }
 
     /**
@@ -71,7 +74,12 @@ public abstract class ContentGenerator extends AddOnModule implements ContentGen
     @Override
     public List<ResourceModel> provideResource(List<? extends ResourceModel> list, Optional<EventModel> optional) {
         //TODO: check arguments and return type here! Missing ID etc. Fail fast!
-        return new ArrayList<>(triggered(list, optional));
+        long start = System.nanoTime();
+        try {
+            return new ArrayList<>(triggered(list, optional));
+        } finally {
+            provideResourceLatency.recordSince(start);
+        }
     }
 
     /**
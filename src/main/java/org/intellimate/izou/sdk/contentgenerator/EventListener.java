@@ -2,9 +2,9 @@ package org.intellimate.izou.sdk.contentgenerator;
 
 import org.intellimate.izou.events.EventModel;
 import org.intellimate.izou.identification.Identifiable;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.events.CommonEvents;
 import org.intellimate.izou.sdk.events.Event;
+import org.intellimate.izou.sdk.util.IdentificationProvider;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -54,7 +54,7 @@ public class EventListener {
         if (!descriptorID.matches("[\\w\\-_]+"))
             throw new IllegalArgumentException("descriptorID: " + descriptorID + " contains illegal characters");
         return
-                IdentificationManagerM.getInstance().getIdentification(identifiable)
+                IdentificationProvider.getIdentificationOf(identifiable)
                 .flatMap(id -> Event.createEvent(CommonEvents.Type.NOTIFICATION_TYPE, id, Collections.singletonList(descriptor)))
                 .map(event -> new EventListener(event, descriptor, description, descriptorID));
     }
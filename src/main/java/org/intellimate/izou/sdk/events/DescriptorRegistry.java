@@ -0,0 +1,150 @@
+package org.intellimate.izou.sdk.events;
+
+import org.intellimate.izou.events.EventModel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * assigns every descriptor (and event-type) a small integer-ID, used by Event to check for descriptors without hashing
+ * the Strings.
+ * <p>
+ * The IDs are only valid for the current run and never released, so descriptors should be constants and not contain
+ * changing information.
+ * To check for a descriptor without hashing the String, obtain its ID once (for example in a static field) and use
+ * {@link #containsDescriptor(EventModel, int)}.
+ * </p>
+ * @version 1.0
+ */
+public final class DescriptorRegistry {
+    private static final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, String> descriptors = new ConcurrentHashMap<>();
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private DescriptorRegistry() {
+    }
+
+    /**
+     * returns the ID of the descriptor, registers it if not already done
+     * @param descriptor the descriptor
+     * @return the ID
+     * @throws IllegalArgumentException if the descriptor is null
+     */
+    public static int getID(String descriptor) throws IllegalArgumentException {
+        if (descriptor == null) throw new IllegalArgumentException("descriptor is null");
+        Integer id = ids.get(descriptor);
+        if (id != null)
+            return id;
+        return ids.computeIfAbsent(descriptor, key -> {
+            int newID = counter.getAndIncrement();
+            descriptors.put(newID, key);
+            return newID;
+        });
+    }
+
+    /**
+     * returns the ID of the descriptor without registering it
+     * @param descriptor the descriptor
+     * @return the ID or -1 if not registered
+     */
+    public static int lookup(String descriptor) {
+        if (descriptor == null)
+            return -1;
+        Integer id = ids.get(descriptor);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * returns the descriptor with the ID
+     * @param id the ID
+     * @return the descriptor or null if not registered
+     */
+    public static String getDescriptor(int id) {
+        return descriptors.get(id);
+    }
+
+    /**
+     * returns the sorted IDs of the descriptors, registering every one of them
+     * @param descriptors the descriptors, null-elements are ignored
+     * @param type the type of the event, or null
+     * @return a sorted array of the distinct IDs
+     */
+    static int[] toIDs(Collection<String> descriptors, String type) {
+        int[] ids = new int[descriptors.size() + 1];
+        int size = 0;
+        for (String descriptor : descriptors) {
+            if (descriptor != null)
+                ids[size++] = getID(descriptor);
+        }
+        if (type != null)
+            ids[size++] = getID(type);
+        return Arrays.stream(ids, 0, size).sorted().distinct().toArray();
+    }
+
+    /**
+     * returns whether the sorted IDs contain the ID
+     * @param ids the sorted IDs created by {@link #toIDs(Collection, String)}
+     * @param id the ID
+     * @return true if contained
+     */
+    static boolean contains(int[] ids, int id) {
+        return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * creates the bitset of the descriptors, registering every one of them
+     * @param descriptors the descriptors, null-elements are ignored
+     * @param type the type of the event, or null
+     * @return the bitset
+     */
+    static long[] toBits(Collection<String> descriptors, String type) {
+        int[] ids = new int[descriptors.size() + 1];
+        int size = 0;
+        int max = -1;
+        for (String descriptor : descriptors) {
+            if (descriptor != null) {
+                ids[size] = getID(descriptor);
+                max = Math.max(max, ids[size++]);
+            }
+        }
+        if (type != null) {
+            ids[size] = getID(type);
+            max = Math.max(max, ids[size++]);
+        }
+        long[] bits = new long[max < 0 ? 0 : (max >>> 6) + 1];
+        for (int i = 0; i < size; i++) {
+            bits[ids[i] >>> 6] |= 1L << ids[i];
+        }
+        return bits;
+    }
+
+    /**
+     * returns whether the bit for the ID is set
+     * @param bits the bitset
+     * @param id the ID
+     * @return true if set
+     */
+    static boolean isSet(long[] bits, int id) {
+        if (id < 0)
+            return false;
+        int index = id >>> 6;
+        return index < bits.length && (bits[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * returns whether the event contains the descriptor with the ID.
+     * For instances of Event this is a binary search over the (few) IDs of the Event.
+     * @param eventModel the event
+     * @param id the ID of the descriptor (see {@link #getID(String)})
+     * @return true if the event contains the descriptor (or the type matches)
+     */
+    public static boolean containsDescriptor(EventModel eventModel, int id) {
+        if (eventModel instanceof Event)
+            return ((Event) eventModel).containsDescriptor(id);
+        String descriptor = getDescriptor(id);
+        return descriptor != null && eventModel.containsDescriptor(descriptor);
+    }
+}
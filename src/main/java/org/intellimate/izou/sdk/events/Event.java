@@ -9,7 +9,8 @@ import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.resource.*;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
 /**
@@ -20,9 +21,12 @@ public class Event implements EventModel<Event> {
     private final String type;
     private final Identification source;
     private final List<String> descriptors;
+    private final int[] descriptorIDs;
     private final ListResourceProvider listResourceContainer;
     private final EventBehaviourController eventBehaviourController;
-    private final ConcurrentHashMap<EventLifeCycle, List<Consumer<EventLifeCycle>>> lifeCycleListeners = new ConcurrentHashMap<>();
+    private static final AtomicReferenceFieldUpdater<Event, LifeCycleListeners> lifeCycleListenersUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(Event.class, LifeCycleListeners.class, "lifeCycleListeners");
+    private volatile LifeCycleListeners lifeCycleListeners = LifeCycleListeners.EMPTY;
 
     /**
      * Creates a new Event Object
@@ -36,13 +40,19 @@ public class Event implements EventModel<Event> {
         if(source == null) throw new IllegalArgumentException("source is null");
         this.type = type;
         this.source = source;
-        this.descriptors = Collections.unmodifiableList(descriptors);
-        listResourceContainer = new ListResourceProviderImpl();
+        this.descriptors = Collections.unmodifiableList(new ArrayList<>(descriptors));
+        this.descriptorIDs = DescriptorRegistry.toIDs(this.descriptors, type);
+        listResourceContainer = new IndexedListResourceProviderImpl();
         eventBehaviourController = new EventBehaviourController();
     }
 
     /**
      * Creates a new Event Object
+     * <p>
+     * Only the ResourceContainers of the SDK (IndexedListResourceProviderImpl and ListResourceProviderImpl) can be
+     * copied. For other implementations the Events created by setDescriptors() and addDescriptor() share the
+     * ResourceContainer and toBuilder() throws an UnsupportedOperationException.
+     * </p>
      * @param type the Type of the Event, try to use the predefined Event types
      * @param source the source of the Event, most likely a this reference.
      * @param listResourceContainer the ResourceContainer
@@ -57,8 +67,34 @@ public class Event implements EventModel<Event> {
         this.type = type;
         this.source = source;
         this.descriptors = Collections.unmodifiableList(new ArrayList<>(descriptors));
+        this.descriptorIDs = DescriptorRegistry.toIDs(this.descriptors, type);
+        this.listResourceContainer = listResourceContainer;
+        this.eventBehaviourController = eventBehaviourController;
+    }
+
+    /**
+     * Creates a new Event Object, takes ownership of the descriptors and the ResourceContainer
+     * @param type the Type of the Event
+     * @param source the source of the Event
+     * @param descriptors the descriptors, not accessible by anybody else
+     * @param listResourceContainer the ResourceContainer
+     * @param eventBehaviourController the Controller of the Event
+     * @param lifeCycleListeners the lifecycle-listeners
+     * @throws IllegalArgumentException if one of the Arguments is null or empty
+     */
+    private Event(String type, Identification source, List<String> descriptors,
+                  ListResourceProvider listResourceContainer, EventBehaviourController eventBehaviourController,
+                  LifeCycleListeners lifeCycleListeners)
+                                                                                    throws IllegalArgumentException {
+        if(type == null || type.isEmpty()) throw new IllegalArgumentException("illegal type");
+        if(source == null) throw new IllegalArgumentException("source is null");
+        this.type = type;
+        this.source = source;
+        this.descriptors = Collections.unmodifiableList(descriptors);
+        this.descriptorIDs = DescriptorRegistry.toIDs(descriptors, type);
         this.listResourceContainer = listResourceContainer;
         this.eventBehaviourController = eventBehaviourController;
+        this.lifeCycleListeners = lifeCycleListeners;
     }
 
     /**
@@ -90,6 +126,27 @@ public class Event implements EventModel<Event> {
         }
     }
 
+    /**
+     * creates a new Builder for an Event
+     * @param type the Type of the Event, try to use the predefined Event types
+     * @param source the source of the Event, most likely a this reference.
+     * @return a new Builder
+     */
+    public static Builder builder(String type, Identification source) {
+        return new Builder(type, source);
+    }
+
+    /**
+     * creates a new Builder initialized with the type, source, descriptors, resources, EventBehaviourController and
+     * lifecycle-listeners of this Event
+     * @return a new Builder
+     * @throws UnsupportedOperationException if the ResourceContainer is not one of the SDK (see
+     *         {@link #Event(String, Identification, ListResourceProvider, List, EventBehaviourController)})
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * The ID of the Event.
      * It describes the Type of the Event.
@@ -173,35 +230,84 @@ public class Event implements EventModel<Event> {
      * sets the Descriptors (but not the Event-Type).
      * <p>
      * Replaces all existing descriptors.
-     * Since Event is immutable, it will create a new Instance.
+     * Since Event is immutable, it will create a new Instance, which keeps the resources, the
+     * EventBehaviourController and the lifecycle-listeners.
      * </p>
      * @param descriptors a List containing all the Descriptors
-     * @return the resulting Event (which is the same instance)
+     * @return the resulting Event
      */
     public Event setDescriptors(List<String> descriptors) {
-        return new Event(getType(), getSource(), descriptors);
+        return withDescriptors(new ArrayList<>(descriptors));
     }
 
     /**
      * sets the Descriptors (but not the Event-Type).
+     * <p>
+     * Since Event is immutable, it will create a new Instance, which keeps the resources, the
+     * EventBehaviourController and the lifecycle-listeners. Use the {@link Builder} to add multiple descriptors.
+     * </p>
      * @param descriptor a String describing the Event.
-     * @return the resulting Event (which is the same instance)
+     * @return the resulting Event
      */
     public Event addDescriptor(String descriptor) {
-        List<String> newDescriptors = new ArrayList<>();
+        List<String> newDescriptors = new ArrayList<>(descriptors.size() + 1);
         newDescriptors.addAll(descriptors);
         newDescriptors.add(descriptor);
-        return new Event(getType(), getSource(), newDescriptors);
+        return withDescriptors(newDescriptors);
     }
 
 
     /**
      * replaces the Descriptors
      * @param descriptors a list containing the Descriptors.
-     * @return the resulting Event (which is the same instance)
+     * @return the resulting Event
      */
     public Event replaceDescriptors(List<String> descriptors) {
-        return new Event(getType(), getSource(), descriptors);
+        return setDescriptors(descriptors);
+    }
+
+    /**
+     * creates a new Event with the descriptors, which keeps the rest of this Event
+     * @param descriptors the new descriptors, not accessible by anybody else
+     * @return the resulting Event
+     */
+    private Event withDescriptors(List<String> descriptors) {
+        ListResourceProvider resources = listResourceContainer;
+        if (isCopyable(listResourceContainer)) {
+            IndexedListResourceProviderImpl copy = new IndexedListResourceProviderImpl();
+            copy.addResource(getResources(listResourceContainer));
+            resources = copy;
+        }
+        //other ResourceContainers can't be enumerated, so they are shared instead of losing their resources
+        return new Event(type, source, descriptors, resources,
+                new EventBehaviourController(eventBehaviourController), lifeCycleListeners);
+    }
+
+    /**
+     * returns whether the Resources of the ResourceContainer can be enumerated (only the ResourceContainers of the SDK)
+     * @param listResourceContainer the ResourceContainer
+     * @return true if the resources can be copied
+     */
+    private static boolean isCopyable(ListResourceProvider listResourceContainer) {
+        return listResourceContainer instanceof IndexedListResourceProviderImpl
+                || listResourceContainer instanceof ListResourceProviderImpl;
+    }
+
+    /**
+     * returns all the Resources of the ResourceContainer.
+     * @param listResourceContainer the ResourceContainer
+     * @return a List of the resources, must not be modified
+     * @throws UnsupportedOperationException if the ResourceContainer is not one of the SDK
+     */
+    private static List<ResourceModel> getResources(ListResourceProvider listResourceContainer) {
+        if (listResourceContainer instanceof IndexedListResourceProviderImpl)
+            return ((IndexedListResourceProviderImpl) listResourceContainer).getResources();
+        if (listResourceContainer instanceof ListResourceProviderImpl)
+            return ((ListResourceProviderImpl) listResourceContainer).getResources();
+        if (listResourceContainer == null)
+            return Collections.emptyList();
+        throw new UnsupportedOperationException("unable to copy the resources of "
+                + listResourceContainer.getClass().getName());
     }
 
     /**
@@ -212,7 +318,32 @@ public class Event implements EventModel<Event> {
      */
     @Override
     public boolean containsDescriptor(String descriptor) {
-        return descriptors.contains(descriptor) || type.equals(descriptor);
+        if (descriptor == null)
+            return descriptors.contains(null);
+        return DescriptorRegistry.contains(descriptorIDs, DescriptorRegistry.lookup(descriptor));
+    }
+
+    /**
+     * returns whether the event contains the descriptor with the ID (see {@link DescriptorRegistry#getID(String)}).
+     * this method also checks whether it matches the type.
+     * @param descriptorID the ID of the Descriptor
+     * @return boolean when the Event contains the descriptor, false when not.
+     */
+    public boolean containsDescriptor(int descriptorID) {
+        return DescriptorRegistry.contains(descriptorIDs, descriptorID);
+    }
+
+    /**
+     * returns whether the event contains any of the descriptors of the bitset
+     * @param bits the bitset created by the DescriptorRegistry
+     * @return true if it contains at least one of them
+     */
+    boolean containsAnyDescriptor(long[] bits) {
+        for (int id : descriptorIDs) {
+            if (DescriptorRegistry.isSet(bits, id))
+                return true;
+        }
+        return false;
     }
 
     /**
@@ -226,27 +357,173 @@ public class Event implements EventModel<Event> {
 
     @Override
     public void lifecycleCallback(EventLifeCycle eventLifeCycle) {
-        lifeCycleListeners.getOrDefault(eventLifeCycle, new LinkedList<>()).stream()
-                .forEach(eventLifeCycleConsumer -> eventLifeCycleConsumer.accept(eventLifeCycle));
+        lifeCycleListeners.fire(eventLifeCycle);
     }
 
     /**
      * adds the Consumer to the specified EventLifeCycle.
-     * In its current implementation the invocation of the Callback method is parallel, but the notificaton of the listners not.
+     * The listeners are notified sequentially in the thread reporting the EventLifeCycle, use
+     * {@link #addEventLifeCycleListener(EventLifeCycle, Consumer, Executor)} for slow callbacks.
      * @param eventLifeCycle the EventLifeCycle to target
      * @param cycleCallback the callback
+     * @return this Event
      */
     @SuppressWarnings("unused")
     public Event addEventLifeCycleListener(EventLifeCycle eventLifeCycle, Consumer<EventLifeCycle> cycleCallback) {
-        lifeCycleListeners.compute(eventLifeCycle, (unused, list) -> {
-            if (list == null)
-                list = new ArrayList<>();
-            list.add(cycleCallback);
-            return list;
-        });
+        LifeCycleListeners current;
+        do {
+            current = lifeCycleListeners;
+        } while (!lifeCycleListenersUpdater.compareAndSet(this, current, current.with(eventLifeCycle, cycleCallback)));
         return this;
     }
 
+    /**
+     * adds the Consumer to the specified EventLifeCycle, the callback gets executed by the Executor (for example the
+     * ThreadPool of the AddOn).
+     * @param eventLifeCycle the EventLifeCycle to target
+     * @param cycleCallback the callback
+     * @param executor the Executor to run the callback on
+     * @return this Event
+     */
+    @SuppressWarnings("unused")
+    public Event addEventLifeCycleListener(EventLifeCycle eventLifeCycle, Consumer<EventLifeCycle> cycleCallback,
+                                           Executor executor) {
+        return addEventLifeCycleListener(eventLifeCycle,
+                lifeCycle -> executor.execute(() -> cycleCallback.accept(lifeCycle)));
+    }
+
+    /**
+     * collects the type, source, descriptors, resources, EventBehaviourController and lifecycle-listeners and creates
+     * an immutable Event from them.
+     * <p>
+     * The Builder may be reused, build() copies the collected information. The resources of an Event passed to the
+     * Builder are copied into a new ResourceContainer (only the ResourceContainers of the SDK can be copied).
+     * </p>
+     */
+    public static class Builder {
+        private final String type;
+        private final Identification source;
+        private final List<String> descriptors = new ArrayList<>();
+        private final List<ResourceModel> resources = new ArrayList<>();
+        private LifeCycleListeners lifeCycleListeners = LifeCycleListeners.EMPTY;
+        private EventBehaviourController eventBehaviourController = null;
+
+        private Builder(String type, Identification source) {
+            this.type = type;
+            this.source = source;
+        }
+
+        private Builder(Event event) {
+            this(event.type, event.source);
+            descriptors.addAll(event.descriptors);
+            resources.addAll(getResources(event.listResourceContainer));
+            eventBehaviourController = new EventBehaviourController(event.eventBehaviourController);
+            lifeCycleListeners = event.lifeCycleListeners;
+        }
+
+        /**
+         * adds the descriptor
+         * @param descriptor a String describing the Event
+         * @return this Builder
+         */
+        public Builder addDescriptor(String descriptor) {
+            descriptors.add(descriptor);
+            return this;
+        }
+
+        /**
+         * adds the descriptors
+         * @param descriptors a List containing the Descriptors
+         * @return this Builder
+         */
+        public Builder addDescriptors(List<String> descriptors) {
+            this.descriptors.addAll(descriptors);
+            return this;
+        }
+
+        /**
+         * replaces all the descriptors added so far
+         * @param descriptors a List containing the Descriptors
+         * @return this Builder
+         */
+        public Builder setDescriptors(List<String> descriptors) {
+            this.descriptors.clear();
+            this.descriptors.addAll(descriptors);
+            return this;
+        }
+
+        /**
+         * adds the Resource
+         * @param resource an instance of the resource to add
+         * @return this Builder
+         */
+        public Builder addResource(ResourceModel resource) {
+            resources.add(resource);
+            return this;
+        }
+
+        /**
+         * adds the Resources
+         * @param resources a list containing all the resources
+         * @return this Builder
+         */
+        public Builder addResources(List<ResourceModel> resources) {
+            this.resources.addAll(resources);
+            return this;
+        }
+
+        /**
+         * sets the EventBehaviourController
+         * @param eventBehaviourController the Controller of the Event
+         * @return this Builder
+         */
+        public Builder setEventBehaviourController(EventBehaviourController eventBehaviourController) {
+            this.eventBehaviourController = eventBehaviourController;
+            return this;
+        }
+
+        /**
+         * adds the Consumer to the specified EventLifeCycle
+         * @param eventLifeCycle the EventLifeCycle to target
+         * @param cycleCallback the callback
+         * @return this Builder
+         */
+        public Builder addEventLifeCycleListener(EventLifeCycle eventLifeCycle, Consumer<EventLifeCycle> cycleCallback) {
+            lifeCycleListeners = lifeCycleListeners.with(eventLifeCycle, cycleCallback);
+            return this;
+        }
+
+        /**
+         * adds the Consumer to the specified EventLifeCycle, the callback gets executed by the Executor
+         * @param eventLifeCycle the EventLifeCycle to target
+         * @param cycleCallback the callback
+         * @param executor the Executor to run the callback on
+         * @return this Builder
+         */
+        public Builder addEventLifeCycleListener(EventLifeCycle eventLifeCycle, Consumer<EventLifeCycle> cycleCallback,
+                                                 Executor executor) {
+            return addEventLifeCycleListener(eventLifeCycle,
+                    lifeCycle -> executor.execute(() -> cycleCallback.accept(lifeCycle)));
+        }
+
+        /**
+         * creates the Event
+         * @return an Optional, that may be empty if type is null or empty or source is null
+         */
+        public Optional<Event> build() {
+            IndexedListResourceProviderImpl listResourceContainer = new IndexedListResourceProviderImpl();
+            listResourceContainer.addResource(resources);
+            EventBehaviourController eventBehaviourController = this.eventBehaviourController == null
+                    ? new EventBehaviourController() : new EventBehaviourController(this.eventBehaviourController);
+            try {
+                return Optional.of(new Event(type, source, new ArrayList<>(descriptors), listResourceContainer,
+                        eventBehaviourController, lifeCycleListeners));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return "Event{" +
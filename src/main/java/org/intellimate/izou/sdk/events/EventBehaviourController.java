@@ -3,6 +3,7 @@ package org.intellimate.izou.sdk.events;
 import org.intellimate.izou.events.EventBehaviourControllerModel;
 import org.intellimate.izou.identification.Identification;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Function;
@@ -12,7 +13,23 @@ import java.util.function.Function;
  */
 public class EventBehaviourController implements EventBehaviourControllerModel {
 
-    private Function<List<Identification>, HashMap<Integer, List<Identification>>> outputPluginBehaviour;
+    private volatile Function<List<Identification>, HashMap<Integer, List<Identification>>> outputPluginBehaviour;
+    private volatile OutputPluginPriorities outputPluginPriorities;
+
+    /**
+     * creates a new EventBehaviourController without any controls
+     */
+    public EventBehaviourController() {
+    }
+
+    /**
+     * creates a new EventBehaviourController with the controls of the passed one
+     * @param eventBehaviourController the EventBehaviourController to copy
+     */
+    EventBehaviourController(EventBehaviourController eventBehaviourController) {
+        this.outputPluginBehaviour = eventBehaviourController.outputPluginBehaviour;
+        this.outputPluginPriorities = eventBehaviourController.outputPluginPriorities;
+    }
 
     /**
      * this method sets the controls for the Output-Plugin Behaviour.
@@ -29,9 +46,23 @@ public class EventBehaviourController implements EventBehaviourControllerModel {
      */
     public void controlOutputPluginBehaviour(Function<List<Identification>,
             HashMap<Integer, List<Identification>>> outputPluginBehaviour) {
+        this.outputPluginPriorities = null;
         this.outputPluginBehaviour = outputPluginBehaviour;
     }
 
+    /**
+     * this method sets the controls for the Output-Plugin Behaviour.
+     * <p>
+     * Unlike the Function, the OutputPluginPriorities only get evaluated if the registered output-plugins changed.
+     * Replaces the Function if set.
+     * </p>
+     * @param outputPluginPriorities the rules for the priorities
+     */
+    public void controlOutputPluginBehaviour(OutputPluginPriorities outputPluginPriorities) {
+        this.outputPluginBehaviour = null;
+        this.outputPluginPriorities = outputPluginPriorities;
+    }
+
     /**
      * generates the data to control the Event
      * @param identifications the Identifications of the OutputPlugins
@@ -39,6 +70,16 @@ public class EventBehaviourController implements EventBehaviourControllerModel {
      */
     @Override
     public HashMap<Integer, List<Identification>> getOutputPluginBehaviour(List<Identification> identifications) {
+        OutputPluginPriorities outputPluginPriorities = this.outputPluginPriorities;
+        if (outputPluginPriorities != null) {
+            //the cached lists are unmodifiable, the callers get copies they can modify
+            HashMap<Integer, List<Identification>> priorities = new HashMap<>();
+            outputPluginPriorities.getPriorities(identifications)
+                    .forEach((priority, list) -> priorities.put(priority, new ArrayList<>(list)));
+            return priorities;
+        }
+        Function<List<Identification>, HashMap<Integer, List<Identification>>> outputPluginBehaviour =
+                this.outputPluginBehaviour;
         if(outputPluginBehaviour == null) return new HashMap<>();
         return outputPluginBehaviour.apply(identifications);
     }
@@ -5,12 +5,25 @@ import org.intellimate.izou.events.EventsControllerModel;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.util.AddOnModule;
 
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * represents an EventsController used for Controlling the dispatching of Events
+ * <p>
+ * By default every Event gets passed to controlEvents(), override getControlledDescriptors() to only control Events
+ * containing at least one of the descriptors, all the other Events are dispatched without calling controlEvents().
+ * </p>
  * @author LeanderK
  * @version 1.0
  */
 public abstract class EventsController extends AddOnModule implements EventsControllerModel {
+    private static final int ALARM = DescriptorRegistry.getID(CommonEvents.ALARM_DESCRIPTOR);
+    private static final int STOP = DescriptorRegistry.getID(CommonEvents.Descriptors.STOP_DESCRIPTOR);
+    private static final int NOT_INTERRUPT = DescriptorRegistry.getID(CommonEvents.Descriptors.NOT_INTERRUPT);
+    private volatile Filter filter = null;
+    private final LongAdder controlled = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
 
     public EventsController(Context context, String ID) {
         super(context, ID);
@@ -19,11 +32,15 @@ public abstract class EventsController extends AddOnModule implements EventsCont
     @Override
     public boolean controlEventDispatcher(EventModel eventModel) {
         //noinspection SimplifiableIfStatement
-        if (eventModel.getType().equals(CommonEvents.Type.NOTIFICATION_TYPE) ||
-                eventModel.containsDescriptor(CommonEvents.ALARM_DESCRIPTOR) ||
-                eventModel.containsDescriptor(CommonEvents.Descriptors.STOP_DESCRIPTOR) ||
-                eventModel.containsDescriptor(CommonEvents.Descriptors.NOT_INTERRUPT))
+        if (!getFilter().matches(eventModel) ||
+                eventModel.getType().equals(CommonEvents.Type.NOTIFICATION_TYPE) ||
+                DescriptorRegistry.containsDescriptor(eventModel, ALARM) ||
+                DescriptorRegistry.containsDescriptor(eventModel, STOP) ||
+                DescriptorRegistry.containsDescriptor(eventModel, NOT_INTERRUPT)) {
+            skipped.increment();
             return true;
+        }
+        controlled.increment();
         return controlEvents(eventModel);
     }
 
@@ -33,4 +50,81 @@ public abstract class EventsController extends AddOnModule implements EventsCont
      * @return true if it should dispatch, false if not
      */
     public abstract boolean controlEvents(EventModel eventModel);
+
+    /**
+     * returns the descriptors of the Events this EventsController wants to control.
+     * <p>
+     * This method gets called once, before the first Event gets controlled.
+     * </p>
+     * @return the descriptors (or types), or null to control all the Events
+     */
+    protected Collection<String> getControlledDescriptors() {
+        return null;
+    }
+
+    /**
+     * returns how many Events got passed to controlEvents()
+     * @return the number of controlled Events
+     */
+    public long getControlledCount() {
+        return controlled.sum();
+    }
+
+    /**
+     * returns how many Events got dispatched without calling controlEvents()
+     * @return the number of skipped Events
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * returns the Filter, creates it if not already done
+     * @return the Filter
+     */
+    private Filter getFilter() {
+        Filter filter = this.filter;
+        if (filter == null) {
+            Collection<String> descriptors = getControlledDescriptors();
+            filter = descriptors == null ? Filter.ALL : new Filter(descriptors);
+            this.filter = filter;
+        }
+        return filter;
+    }
+
+    /**
+     * the descriptors of the Events to control, as bitset and as Strings (for implementations other than Event)
+     */
+    private static final class Filter {
+        private static final Filter ALL = new Filter();
+        private final long[] bits;
+        private final String[] descriptors;
+
+        private Filter() {
+            this.bits = null;
+            this.descriptors = null;
+        }
+
+        private Filter(Collection<String> descriptors) {
+            this.bits = DescriptorRegistry.toBits(descriptors, null);
+            this.descriptors = descriptors.toArray(new String[descriptors.size()]);
+        }
+
+        /**
+         * returns whether the Event should be controlled
+         * @param eventModel the Event
+         * @return true if matching
+         */
+        private boolean matches(EventModel eventModel) {
+            if (bits == null)
+                return true;
+            if (eventModel instanceof Event)
+                return ((Event) eventModel).containsAnyDescriptor(bits);
+            for (String descriptor : descriptors) {
+                if (eventModel.containsDescriptor(descriptor))
+                    return true;
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package org.intellimate.izou.sdk.events;
+
+import org.intellimate.izou.events.EventLifeCycle;
+
+import java.util.function.Consumer;
+
+/**
+ * the lifecycle-listeners of an Event, indexed by the ordinal of the EventLifeCycle.
+ * <p>
+ * This class is immutable! Adding a listener copies only the array of the targeted EventLifeCycle, so the
+ * listeners can be iterated without locking or allocating.
+ * </p>
+ * @version 1.0
+ */
+final class LifeCycleListeners {
+    /**
+     * no listeners
+     */
+    static final LifeCycleListeners EMPTY = new LifeCycleListeners(null);
+    @SuppressWarnings("unchecked")
+    private static final Consumer<EventLifeCycle>[] NONE = new Consumer[0];
+    private final Consumer<EventLifeCycle>[][] listeners;
+
+    private LifeCycleListeners(Consumer<EventLifeCycle>[][] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * returns the listeners of the EventLifeCycle
+     * @param eventLifeCycle the EventLifeCycle
+     * @return the listeners, must not be modified
+     */
+    Consumer<EventLifeCycle>[] get(EventLifeCycle eventLifeCycle) {
+        if (listeners == null)
+            return NONE;
+        Consumer<EventLifeCycle>[] result = listeners[eventLifeCycle.ordinal()];
+        return result == null ? NONE : result;
+    }
+
+    /**
+     * returns new LifeCycleListeners with the added listener
+     * @param eventLifeCycle the EventLifeCycle to target
+     * @param listener the listener
+     * @return new LifeCycleListeners
+     */
+    @SuppressWarnings("unchecked")
+    LifeCycleListeners with(EventLifeCycle eventLifeCycle, Consumer<EventLifeCycle> listener) {
+        Consumer<EventLifeCycle>[][] copy = listeners == null
+                ? new Consumer[EventLifeCycle.values().length][]
+                : listeners.clone();
+        Consumer<EventLifeCycle>[] old = get(eventLifeCycle);
+        Consumer<EventLifeCycle>[] added = new Consumer[old.length + 1];
+        System.arraycopy(old, 0, added, 0, old.length);
+        added[old.length] = listener;
+        copy[eventLifeCycle.ordinal()] = added;
+        return new LifeCycleListeners(copy);
+    }
+
+    /**
+     * notifies the listeners of the EventLifeCycle
+     * @param eventLifeCycle the EventLifeCycle
+     */
+    void fire(EventLifeCycle eventLifeCycle) {
+        for (Consumer<EventLifeCycle> listener : get(eventLifeCycle)) {
+            listener.accept(eventLifeCycle);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.intellimate.izou.sdk.events;
+
+import org.intellimate.izou.identification.Identification;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * declarative rules for the order in which the Output-Plugins process an Event (see EventBehaviourController).
+ * <p>
+ * The output-plugin with the highest POSITIVE priority will be processed first, negative priorities are processed
+ * last and output-plugins without a matching rule in between. The rules for IDs are checked before the rules with
+ * predicates, which are checked in the order they were added.
+ * The resulting ordering is computed once for every set of registered output-plugins and then reused by all the
+ * Events using these rules, so they should be created once (for example as a constant).
+ * This class is immutable!
+ * </p>
+ * @version 1.0
+ */
+public final class OutputPluginPriorities {
+    /**
+     * the priority to be processed before all the other output-plugins
+     */
+    public static final int FIRST = Integer.MAX_VALUE;
+    /**
+     * the priority to be processed after all the other output-plugins
+     */
+    public static final int LAST = Integer.MIN_VALUE;
+    /**
+     * no rules, all output-plugins are processed in between
+     */
+    public static final OutputPluginPriorities NONE = new OutputPluginPriorities(new HashMap<>(), new ArrayList<>());
+    private final Map<String, Integer> byID;
+    private final List<Rule> rules;
+    private volatile Compiled compiled = null;
+
+    private OutputPluginPriorities(Map<String, Integer> byID, List<Rule> rules) {
+        this.byID = byID;
+        this.rules = rules;
+    }
+
+    /**
+     * returns new OutputPluginPriorities with the priority for the output-plugin
+     * @param outputPluginID the ID of the output-plugin
+     * @param priority the priority
+     * @return new OutputPluginPriorities
+     */
+    public OutputPluginPriorities withPriority(String outputPluginID, int priority) {
+        Map<String, Integer> byID = new HashMap<>(this.byID);
+        byID.put(outputPluginID, priority);
+        return new OutputPluginPriorities(byID, rules);
+    }
+
+    /**
+     * returns new OutputPluginPriorities with the priority for all the output-plugins matching the predicate
+     * @param predicate the predicate to test the Identifications of the output-plugins
+     * @param priority the priority
+     * @return new OutputPluginPriorities
+     */
+    public OutputPluginPriorities withPriority(Predicate<Identification> predicate, int priority) {
+        List<Rule> rules = new ArrayList<>(this.rules);
+        rules.add(new Rule(predicate, priority));
+        return new OutputPluginPriorities(byID, rules);
+    }
+
+    /**
+     * returns new OutputPluginPriorities where the output-plugin is processed first
+     * @param outputPluginID the ID of the output-plugin
+     * @return new OutputPluginPriorities
+     */
+    public OutputPluginPriorities first(String outputPluginID) {
+        return withPriority(outputPluginID, FIRST);
+    }
+
+    /**
+     * returns new OutputPluginPriorities where the output-plugin is processed last
+     * @param outputPluginID the ID of the output-plugin
+     * @return new OutputPluginPriorities
+     */
+    public OutputPluginPriorities last(String outputPluginID) {
+        return withPriority(outputPluginID, LAST);
+    }
+
+    /**
+     * returns the priorities of the output-plugins, computed only if the output-plugins changed since the last call
+     * @param identifications the Identifications of the registered output-plugins
+     * @return an unmodifiable Map, where the keys represent the priority and the values the Identifications
+     */
+    Map<Integer, List<Identification>> getPriorities(List<Identification> identifications) {
+        Compiled compiled = this.compiled;
+        if (compiled != null && compiled.identifications.equals(identifications))
+            return compiled.priorities;
+        compiled = new Compiled(new ArrayList<>(identifications), compile(identifications));
+        this.compiled = compiled;
+        return compiled.priorities;
+    }
+
+    /**
+     * assigns the priorities to the output-plugins
+     * @param identifications the Identifications of the output-plugins
+     * @return an unmodifiable Map, where the keys represent the priority and the values the Identifications
+     */
+    private Map<Integer, List<Identification>> compile(List<Identification> identifications) {
+        Map<Integer, List<Identification>> priorities = new HashMap<>();
+        for (Identification identification : identifications) {
+            Integer priority = byID.get(identification.getID());
+            for (int i = 0; priority == null && i < rules.size(); i++) {
+                if (rules.get(i).predicate.test(identification))
+                    priority = rules.get(i).priority;
+            }
+            if (priority != null)
+                priorities.computeIfAbsent(priority, key -> new ArrayList<>()).add(identification);
+        }
+        priorities.replaceAll((priority, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(priorities);
+    }
+
+    /**
+     * a rule with a predicate
+     */
+    private static final class Rule {
+        private final Predicate<Identification> predicate;
+        private final int priority;
+
+        private Rule(Predicate<Identification> predicate, int priority) {
+            this.predicate = predicate;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * the priorities computed for the Identifications
+     */
+    private static final class Compiled {
+        private final List<Identification> identifications;
+        private final Map<Integer, List<Identification>> priorities;
+
+        private Compiled(List<Identification> identifications, Map<Integer, List<Identification>> priorities) {
+            this.identifications = identifications;
+            this.priorities = priorities;
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package org.intellimate.izou.sdk.frameworks.common.resources;
 
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManager;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.identification.IllegalIDException;
 import org.intellimate.izou.resource.ResourceBuilderModel;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.resource.UsingSoundResource;
+import org.intellimate.izou.sdk.util.IdentificationProvider;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +19,7 @@ import java.util.stream.Collectors;
  * @author LeanderK
  * @version 1.0
  */
-public interface ResourcesProviderBase extends ResourceBuilderModel {
+public interface ResourcesProviderBase extends ResourceBuilderModel, IdentificationProvider {
     /**
      * initialises the Interface
      * @param context the context to use
@@ -36,7 +35,7 @@ public interface ResourcesProviderBase extends ResourceBuilderModel {
     @Override
     default List<? extends ResourceModel> announceResources() {
         List<ResourceModel> resources = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(this)
+        getIdentification()
                 .map(UsingSoundResource::new)
                 .ifPresent(resources::add);
         return resources;
@@ -2,12 +2,22 @@ package org.intellimate.izou.sdk.frameworks.music;
 
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.util.LazyExport;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * This class has information about the capabilities of the Music-Player. The default is always false.
+ * <p>
+ * The capabilities are stored as bits of a long (see {@link #toBits()}). Bits unknown to this version of the SDK
+ * (set by a newer version, see {@link #getVersion()}) are kept, so they are not lost when passed on. In the HashMap
+ * (see {@link #write()}) they are written as entries like "izou.music.capabilities.bit13" and the version as
+ * "izou.music.capabilities.version2", descriptors of a newer SDK which are not written this way are ignored.
+ * </p>
  * @author LeanderK
  * @version 1.0
  */
@@ -15,39 +25,66 @@ import java.util.Optional;
 public class Capabilities {
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String playPauseControlDescriptor = "izou.music.capabilities.playpausecontrol";
-    private boolean playPauseControl = false;
+    static final long PLAY_PAUSE_CONTROL = 1L << 0;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String playRequestOutsideDescriptor = "izou.music.capabilities.playrequestoutside";
-    private boolean playRequestOutside = false;
+    static final long PLAY_REQUEST_OUTSIDE = 1L << 1;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String playRequestDetailedDescriptor = "izou.music.capabilities.playrequestdetailed";
-    private boolean playRequestDetailed = false;
+    static final long PLAY_REQUEST_DETAILED = 1L << 2;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String providesTrackInfoDescriptor = "izou.music.capabilities.providestrackinfo";
-    private boolean providesTrackInfo = false;
+    static final long PROVIDES_TRACK_INFO = 1L << 3;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String ableToSelectTrackDescriptor = "izou.music.capabilities.abletoselecttrack";
-    private boolean ableToSelectTrack = false;
+    static final long ABLE_TO_SELECT_TRACK = 1L << 4;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String nextPreviousDescriptor = "izou.music.capabilities.nextprevious";
-    private boolean nextPrevious = false;
+    static final long NEXT_PREVIOUS = 1L << 5;
     protected static final String ableToJumpDescriptor = "izou.music.capabilities.jump";
-    private boolean ableToJump = false;
+    static final long ABLE_TO_JUMP = 1L << 6;
     protected static final String playbackShuffleDescriptor = "izou.music.capabilities.playback.shuffle";
-    private boolean playbackShuffle = false;
+    static final long PLAYBACK_SHUFFLE = 1L << 7;
     protected static final String playbackRepeatDescriptor = "izou.music.capabilities.playback.repeat";
-    private boolean playbackRepeat = false;
+    static final long PLAYBACK_REPEAT = 1L << 8;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String playbackRepeatSongDescriptor = "izou.music.capabilities.playback.repeatsong";
-    private boolean playbackRepeatSong = false;
+    static final long PLAYBACK_REPEAT_SONG = 1L << 9;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String playbackChangeableDescriptor = "izou.music.capabilities.playback.changable";
-    private boolean playbackChangeable = false;
+    static final long PLAYBACK_CHANGEABLE = 1L << 10;
     protected static final String changeVolumeDescriptor = "izou.music.capabilities.volume";
-    private boolean changeVolume = false;
+    static final long CHANGE_VOLUME = 1L << 11;
     @SuppressWarnings("SpellCheckingInspection")
     protected static final String broadcastingDescriptor = "izou.music.capabilities.broadcasting";
-    private boolean broadcasting = false;
+    static final long BROADCASTING = 1L << 12;
+    /**
+     * the version of the bit-layout, a newer version only adds bits
+     */
+    public static final int VERSION = 1;
+    private static final long KNOWN_BITS = (1L << 13) - 1;
+    private static final String bitPrefix = "izou.music.capabilities.bit";
+    private static final String versionPrefix = "izou.music.capabilities.version";
+    private static final Map<String, Long> descriptors;
+    static {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put(playPauseControlDescriptor, PLAY_PAUSE_CONTROL);
+        map.put(playRequestOutsideDescriptor, PLAY_REQUEST_OUTSIDE);
+        map.put(playRequestDetailedDescriptor, PLAY_REQUEST_DETAILED);
+        map.put(providesTrackInfoDescriptor, PROVIDES_TRACK_INFO);
+        map.put(ableToSelectTrackDescriptor, ABLE_TO_SELECT_TRACK);
+        map.put(nextPreviousDescriptor, NEXT_PREVIOUS);
+        map.put(ableToJumpDescriptor, ABLE_TO_JUMP);
+        map.put(playbackShuffleDescriptor, PLAYBACK_SHUFFLE);
+        map.put(playbackRepeatDescriptor, PLAYBACK_REPEAT);
+        map.put(playbackRepeatSongDescriptor, PLAYBACK_REPEAT_SONG);
+        map.put(playbackChangeableDescriptor, PLAYBACK_CHANGEABLE);
+        map.put(changeVolumeDescriptor, CHANGE_VOLUME);
+        map.put(broadcastingDescriptor, BROADCASTING);
+        descriptors = Collections.unmodifiableMap(map);
+    }
+    private long bits = 0;
+    private int version = VERSION;
 
     /**
      * creates a new Context
@@ -62,12 +99,87 @@ public class Capabilities {
 
     }
 
+    /**
+     * creates new Capabilities from the bits
+     * @param bits the bits
+     * @param version the version of the bit-layout
+     */
+    private Capabilities(long bits, int version) {
+        this.bits = bits;
+        this.version = Math.max(version, VERSION);
+    }
+
+    /**
+     * creates new Capabilities from the bits (see {@link #toBits()})
+     * @param bits the bits
+     * @param version the version of the bit-layout the bits were created with
+     * @return new Capabilities
+     */
+    public static Capabilities fromBits(long bits, int version) {
+        return new Capabilities(bits, version);
+    }
+
+    /**
+     * returns the bits, including the bits unknown to this version
+     * @return the bits
+     */
+    public long toBits() {
+        return bits;
+    }
+
+    /**
+     * returns the version of the bit-layout, which is newer than {@link #VERSION} if created from the bits of a
+     * newer SDK
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * returns whether capabilities unknown to this version of the SDK are set
+     * @return true if unknown bits are set
+     */
+    public boolean hasUnknownCapabilities() {
+        return (bits & ~KNOWN_BITS) != 0;
+    }
+
+    /**
+     * returns whether the bit is set
+     * @param bit the bit
+     * @return true if set
+     */
+    private boolean is(long bit) {
+        return (bits & bit) != 0;
+    }
+
+    /**
+     * sets or clears the bit
+     * @param bit the bit
+     * @param value true to set, false to clear
+     */
+    private void set(long bit, boolean value) {
+        if (value) {
+            bits |= bit;
+        } else {
+            bits &= ~bit;
+        }
+    }
+
+    /**
+     * returns a copy of the Capabilities
+     * @return a new instance of Capabilities
+     */
+    public Capabilities copy() {
+        return new Capabilities(bits, version);
+    }
+
     /**
      * whether you can change the Volume from outside the player
      * @return true if able to, false if not
      */
     public boolean canChangeVolume() {
-        return changeVolume;
+        return is(CHANGE_VOLUME);
     }
 
     /**
@@ -75,7 +187,7 @@ public class Capabilities {
      * @param changeVolume true if the player is capable, false if not
      */
     public void setChangeVolume(boolean changeVolume) {
-        this.changeVolume = changeVolume;
+        set(CHANGE_VOLUME, changeVolume);
     }
 
     /**
@@ -83,7 +195,7 @@ public class Capabilities {
      * @return true if able to, false if not
      */
     public boolean handlesPlayRequestFromOutside() {
-        return playRequestOutside;
+        return is(PLAY_REQUEST_OUTSIDE);
     }
 
     /**
@@ -91,7 +203,7 @@ public class Capabilities {
      * @param playRequestOutside true if the player is capable, false if not
      */
     public void setPlayRequestOutside(boolean playRequestOutside) {
-        this.playRequestOutside = playRequestOutside;
+        set(PLAY_REQUEST_OUTSIDE, playRequestOutside);
     }
 
     /**
@@ -99,7 +211,7 @@ public class Capabilities {
      * @return true if able to, false if not
      */
     public boolean hasPlayPauseControl() {
-        return playPauseControl;
+        return is(PLAY_PAUSE_CONTROL);
     }
 
     /**
@@ -107,7 +219,7 @@ public class Capabilities {
      * @param playPauseControl true if the player is capable, false if not
      */
     public void setPlayPauseControl(boolean playPauseControl) {
-        this.playPauseControl = playPauseControl;
+        set(PLAY_PAUSE_CONTROL, playPauseControl);
     }
 
     /**
@@ -115,7 +227,7 @@ public class Capabilities {
      * @return true if able to, false if not
      */
     public boolean hasPlayRequestDetailed() {
-        return playRequestDetailed;
+        return is(PLAY_REQUEST_DETAILED);
     }
 
     /**
@@ -123,7 +235,7 @@ public class Capabilities {
      * @param playRequestDetailed true if the player is capable, false if not
      */
     public void setPlayRequestDetailed(boolean playRequestDetailed) {
-        this.playRequestDetailed = playRequestDetailed;
+        set(PLAY_REQUEST_DETAILED, playRequestDetailed);
     }
 
     /**
@@ -131,7 +243,7 @@ public class Capabilities {
      * @return true if able to, false if not
      */
     public boolean providesTrackInfo() {
-        return providesTrackInfo;
+        return is(PROVIDES_TRACK_INFO);
     }
 
     /**
@@ -139,7 +251,7 @@ public class Capabilities {
      * @param providesTrackInfo true if the player is capable, false if not
      */
     public void setProvidesTrackInfo(boolean providesTrackInfo) {
-        this.providesTrackInfo = providesTrackInfo;
+        set(PROVIDES_TRACK_INFO, providesTrackInfo);
     }
 
     /**
@@ -147,7 +259,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean isAbleToSelectTrack() {
-        return ableToSelectTrack;
+        return is(ABLE_TO_SELECT_TRACK);
     }
 
     /**
@@ -155,7 +267,7 @@ public class Capabilities {
      * @param ableToSelectTrack true if able, false if not
      */
     public void setAbleToSelectTrack(boolean ableToSelectTrack) {
-        this.ableToSelectTrack = ableToSelectTrack;
+        set(ABLE_TO_SELECT_TRACK, ableToSelectTrack);
     }
 
     /**
@@ -163,7 +275,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean hasNextPrevious() {
-        return nextPrevious;
+        return is(NEXT_PREVIOUS);
     }
 
     /**
@@ -171,7 +283,7 @@ public class Capabilities {
      * @param nextPrevious true if able, false if not
      */
     public void setNextPrevious(boolean nextPrevious) {
-        this.nextPrevious = nextPrevious;
+        set(NEXT_PREVIOUS, nextPrevious);
     }
 
     /**
@@ -179,7 +291,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean isAbleToJump() {
-        return ableToJump;
+        return is(ABLE_TO_JUMP);
     }
 
     /**
@@ -187,7 +299,7 @@ public class Capabilities {
      * @param ableToJump true if able, false if not
      */
     public void setAbleToJump(boolean ableToJump) {
-        this.ableToJump = ableToJump;
+        set(ABLE_TO_JUMP, ableToJump);
     }
 
     /**
@@ -195,7 +307,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean canRepeatPlayback() {
-        return playbackRepeat;
+        return is(PLAYBACK_REPEAT);
     }
 
     /**
@@ -203,7 +315,7 @@ public class Capabilities {
      * @param playbackRepeat true if able, false if not
      */
     public void setPlaybackRepeat(boolean playbackRepeat) {
-        this.playbackRepeat = playbackRepeat;
+        set(PLAYBACK_REPEAT, playbackRepeat);
     }
 
     /**
@@ -211,7 +323,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean canRepeatPlaybackOfSong() {
-        return playbackRepeatSong;
+        return is(PLAYBACK_REPEAT_SONG);
     }
 
     /**
@@ -219,7 +331,7 @@ public class Capabilities {
      * @param playbackRepeatSong true if able, false if not
      */
     public void setPlaybackRepeatSong(boolean playbackRepeatSong) {
-        this.playbackRepeatSong = playbackRepeatSong;
+        set(PLAYBACK_REPEAT_SONG, playbackRepeatSong);
     }
 
     /**
@@ -227,7 +339,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean isPlaybackChangeable() {
-        return playbackChangeable;
+        return is(PLAYBACK_CHANGEABLE);
     }
 
     /**
@@ -235,7 +347,7 @@ public class Capabilities {
      * @param playbackChangeable true if able, false if not
      */
     public void setPlaybackChangeable(boolean playbackChangeable) {
-        this.playbackChangeable = playbackChangeable;
+        set(PLAYBACK_CHANGEABLE, playbackChangeable);
     }
 
     /**
@@ -243,7 +355,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean canShufflePlayback() {
-        return playbackShuffle;
+        return is(PLAYBACK_SHUFFLE);
     }
 
     /**
@@ -251,7 +363,7 @@ public class Capabilities {
      * @param playbackShuffle true if able, false if not
      */
     public void setPlaybackShuffle(boolean playbackShuffle) {
-        this.playbackShuffle = playbackShuffle;
+        set(PLAYBACK_SHUFFLE, playbackShuffle);
     }
 
     /**
@@ -259,7 +371,7 @@ public class Capabilities {
      * @return true if able, false if not
      */
     public boolean isBroadcasting() {
-        return broadcasting;
+        return is(BROADCASTING);
     }
 
     /**
@@ -267,64 +379,105 @@ public class Capabilities {
      * @param broadcasting true if able, false if not
      */
     public void setBroadcasting(boolean broadcasting) {
-        this.broadcasting = broadcasting;
+        set(BROADCASTING, broadcasting);
     }
 
+    /**
+     * returns the Capabilities as a HashMap with an entry for every capability known to this version, the unknown bits
+     * and a newer version.
+     * <p>
+     * The returned HashMap carries a copy of the Capabilities and creates the entries only when accessed (see
+     * {@link LazyExport}).
+     * </p>
+     * @return a HashMap
+     */
     public HashMap<String, Boolean> write() {
+        return new LazyExport<>(copy(), Capabilities::writeToHashMap);
+    }
+
+    /**
+     * returns the Capabilities as a HashMap with an entry for every capability known to this version, the unknown bits
+     * and a newer version
+     * @return a HashMap
+     */
+    private HashMap<String, Boolean> writeToHashMap() {
         HashMap<String, Boolean> data = new HashMap<>();
-        data.put(playPauseControlDescriptor, playPauseControl);
-        data.put(playRequestDetailedDescriptor, playRequestDetailed);
-        data.put(providesTrackInfoDescriptor, providesTrackInfo);
-        data.put(ableToSelectTrackDescriptor, ableToSelectTrack);
-        data.put(nextPreviousDescriptor, nextPrevious);
-        data.put(ableToJumpDescriptor, ableToJump);
-        data.put(playbackChangeableDescriptor, playbackChangeable);
-        data.put(playbackRepeatDescriptor, playbackRepeat);
-        data.put(playbackRepeatSongDescriptor, playbackRepeatSong);
-        data.put(playbackShuffleDescriptor, playbackShuffle);
-        data.put(playRequestOutsideDescriptor, playRequestOutside);
-        data.put(changeVolumeDescriptor, changeVolume);
-        data.put(broadcastingDescriptor, broadcasting);
+        descriptors.forEach((descriptor, bit) -> data.put(descriptor, is(bit)));
+        long unknownBits = bits & ~KNOWN_BITS;
+        for (int i = 0; i < Long.SIZE; i++) {
+            if ((unknownBits & (1L << i)) != 0)
+                data.put(bitPrefix + i, true);
+        }
+        if (version != VERSION)
+            data.put(versionPrefix + version, true);
         return data;
     }
 
+    /**
+     * returns the number appended to the prefix
+     * @param descriptor the descriptor
+     * @param prefix the prefix
+     * @return the number or -1 if the descriptor doesn't start with the prefix or is not followed by a number
+     */
+    private static int parseSuffix(String descriptor, String prefix) {
+        if (!descriptor.startsWith(prefix))
+            return -1;
+        try {
+            return Integer.parseInt(descriptor.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * creates the Capabilities from the HashMap, unknown bits and the version are restored from their entries (see
+     * {@link #write()}), other unknown descriptors (from newer versions) are ignored
+     * @param data the HashMap
+     * @param context the context used for logging, may be null
+     * @return new Capabilities
+     */
     public static Capabilities constructCapabilites(HashMap<String, Boolean> data, Context context) {
+        Optional<Capabilities> exported = LazyExport.getValue(data, Capabilities.class);
+        if (exported.isPresent())
+            return exported.get().copy();
         Capabilities capabilities = new Capabilities();
-        data.keySet().forEach(descriptor -> {
-            switch (descriptor) {
-                case playPauseControlDescriptor: capabilities.setPlayPauseControl(data.get(descriptor));
-                    break;
-                case playRequestDetailedDescriptor: capabilities.setPlayRequestDetailed(data.get(descriptor));
-                    break;
-                case providesTrackInfoDescriptor: capabilities.setProvidesTrackInfo(data.get(descriptor));
-                    break;
-                case ableToSelectTrackDescriptor: capabilities.setAbleToSelectTrack(data.get(descriptor));
-                    break;
-                case nextPreviousDescriptor: capabilities.setNextPrevious(data.get(descriptor));
-                    break;
-                case playbackChangeableDescriptor: capabilities.setPlaybackChangeable(data.get(descriptor));
-                    break;
-                case playbackRepeatDescriptor: capabilities.setPlaybackRepeat(data.get(descriptor));
-                    break;
-                case playbackRepeatSongDescriptor: capabilities.setPlaybackRepeatSong(data.get(descriptor));
-                    break;
-                case playbackShuffleDescriptor: capabilities.setPlaybackShuffle(data.get(descriptor));
-                    break;
-                case playRequestOutsideDescriptor: capabilities.setPlayRequestOutside(data.get(descriptor));
-                    break;
-                case changeVolumeDescriptor: capabilities.setChangeVolume(data.get(descriptor));
-                    break;
-                case ableToJumpDescriptor: capabilities.setAbleToJump(data.get(descriptor));
-                    break;
-                case broadcastingDescriptor: capabilities.setBroadcasting(data.get(descriptor));
-                    break;
-                default: context.getLogger().error("unkown command: " + descriptor);
-                    break;
+        data.forEach((descriptor, value) -> {
+            Long bit = descriptors.get(descriptor);
+            int unknownBit = parseSuffix(descriptor, bitPrefix);
+            int version = parseSuffix(descriptor, versionPrefix);
+            if (bit != null) {
+                capabilities.set(bit, Boolean.TRUE.equals(value));
+            } else if (unknownBit >= 0 && unknownBit < Long.SIZE) {
+                capabilities.set((1L << unknownBit) & ~KNOWN_BITS, Boolean.TRUE.equals(value));
+            } else if (version > 0) {
+                capabilities.version = Math.max(version, capabilities.version);
+            } else if (context != null) {
+                context.getLogger().debug("unknown capability: " + descriptor);
             }
         });
         return capabilities;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Capabilities)) return false;
+        return bits == ((Capabilities) o).bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "Capabilities{" +
+                "bits=" + Long.toBinaryString(bits) +
+                ", version=" + version +
+                '}';
+    }
+
     /**
      * creates a TrackInfo from the resourceModel
      * @param resourceModel the resourceModel
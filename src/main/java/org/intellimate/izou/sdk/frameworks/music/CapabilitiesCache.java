@@ -0,0 +1,128 @@
+package org.intellimate.izou.sdk.frameworks.music;
+
+import org.intellimate.izou.events.EventModel;
+import org.intellimate.izou.identification.Identification;
+import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.frameworks.music.events.CapabilitiesUpdate;
+import org.intellimate.izou.sdk.frameworks.music.events.PlayerUpdate;
+import org.intellimate.izou.sdk.frameworks.music.resources.CapabilitiesResource;
+import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.events.StartEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * caches the Capabilities of the players, so that they don't have to be requested for every PlayerRequest.
+ * <p>
+ * An entry gets updated when the player fires a CapabilitiesUpdate and removed when the player (re-)starts playing
+ * (a PlayerUpdate with the StartEvent-descriptor). The cache only holds copies, the returned Capabilities may be
+ * modified. Every AddOn has its own cache with its own listener, held by the Context.
+ * </p>
+ * @version 1.0
+ */
+public final class CapabilitiesCache {
+    private final ConcurrentMap<Identification, Capabilities> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Context context;
+
+    private CapabilitiesCache(Context context) {
+        this.context = context;
+    }
+
+    /**
+     * returns the CapabilitiesCache of the AddOn (held by the Context), registers its listener if not already done
+     * @param context the Context of the AddOn
+     * @return the CapabilitiesCache
+     */
+    public static CapabilitiesCache getInstance(Context context) {
+        return context.getHelper(CapabilitiesCache.class, key -> {
+            CapabilitiesCache capabilitiesCache = new CapabilitiesCache(key);
+            key.getEvents().registerEventListener(Arrays.asList(CapabilitiesUpdate.ID, PlayerUpdate.ID),
+                    capabilitiesCache::eventFired);
+            return capabilitiesCache;
+        });
+    }
+
+    /**
+     * returns the Capabilities of the player, from the cache of the AddOn if possible.
+     * @param player the player
+     * @param context the context of the AddOn
+     * @return a future completed with the optional Capabilities
+     */
+    public static CompletableFuture<Optional<Capabilities>> getCapabilities(Identification player, Context context) {
+        return getInstance(context).getCapabilities(player);
+    }
+
+    /**
+     * returns the Capabilities of the player, from the cache if possible.
+     * @param player the player
+     * @return a future completed with the optional Capabilities
+     */
+    public CompletableFuture<Optional<Capabilities>> getCapabilities(Identification player) {
+        Capabilities cached = cache.get(player);
+        if (cached != null)
+            return CompletableFuture.completedFuture(Optional.of(cached.copy()));
+        long invalidation = invalidations.get();
+        return context.getResources()
+                .generateResource(new CapabilitiesResource(player))
+                .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
+                .thenApply(list -> list.stream()
+                        .filter(resourceModel -> resourceModel.getProvider().equals(player))
+                        .findAny()
+                        .flatMap(resource -> Capabilities.importFromResource(resource, context))
+                )
+                .whenComplete((capabilities, throwable) -> {
+                    if (capabilities != null && capabilities.isPresent() && invalidation == invalidations.get())
+                        cache.putIfAbsent(player, capabilities.get().copy());
+                });
+    }
+
+    /**
+     * replaces the cached Capabilities of the player
+     * @param player the player
+     * @param capabilities the new capabilities
+     */
+    public void update(Identification player, Capabilities capabilities) {
+        invalidations.incrementAndGet();
+        cache.put(player, capabilities.copy());
+    }
+
+    /**
+     * removes the cached Capabilities of the player
+     * @param player the player
+     */
+    public void invalidate(Identification player) {
+        invalidations.incrementAndGet();
+        cache.remove(player);
+    }
+
+    /**
+     * updates or invalidates the cache
+     * @param eventModel the fired event
+     */
+    private void eventFired(EventModel eventModel) {
+        Identification player = eventModel.getSource();
+        if (player == null)
+            return;
+        if (eventModel.containsDescriptor(CapabilitiesUpdate.ID)) {
+            Optional<Capabilities> capabilities = eventModel.getListResourceContainer()
+                    .provideResource(CapabilitiesResource.RESOURCE_ID)
+                    .stream()
+                    .filter(resourceModel -> player.equals(resourceModel.getProvider()))
+                    .findAny()
+                    .flatMap(resourceModel -> Capabilities.importFromResource(resourceModel, context));
+            if (capabilities.isPresent()) {
+                update(player, capabilities.get());
+            } else {
+                invalidate(player);
+            }
+        } else if (eventModel.containsDescriptor(StartEvent.ID)) {
+            invalidate(player);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.intellimate.izou.sdk.frameworks.music;
+
+import org.intellimate.izou.sdk.frameworks.music.resources.CommandResource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * the commands a player can receive via the CommandResource
+ * @version 1.0
+ */
+public enum Command {
+    /**
+     * starts or resumes the playback
+     */
+    PLAY(CommandResource.PLAY, Capabilities.PLAY_PAUSE_CONTROL, true),
+    /**
+     * pauses the playback
+     */
+    PAUSE(CommandResource.PAUSE, Capabilities.PLAY_PAUSE_CONTROL, true),
+    /**
+     * stops the playback
+     */
+    STOP(CommandResource.STOP, 0, false),
+    /**
+     * selects the track of the TrackInfoResource
+     */
+    SELECT_TRACK(CommandResource.SELECT_TRACK, Capabilities.ABLE_TO_SELECT_TRACK, false),
+    /**
+     * plays the next track
+     */
+    NEXT(CommandResource.NEXT, Capabilities.NEXT_PREVIOUS, true),
+    /**
+     * plays the previous track
+     */
+    PREVIOUS(CommandResource.PREVIOUS, Capabilities.NEXT_PREVIOUS, true),
+    /**
+     * jumps to the position of the ProgressResource
+     */
+    JUMP(CommandResource.JUMP, Capabilities.ABLE_TO_JUMP, false),
+    /**
+     * changes the playback
+     */
+    CHANGE_PLAYBACK(CommandResource.CHANGE_PLAYBACK, Capabilities.PLAYBACK_CHANGEABLE, true),
+    /**
+     * changes the volume to the volume of the VolumeResource
+     */
+    CHANGE_VOLUME(CommandResource.CHANGE_VOLUME, Capabilities.CHANGE_VOLUME, false);
+
+    private static final Map<String, Command> commands = new HashMap<>();
+    static {
+        for (Command command : values()) {
+            commands.put(command.command, command);
+        }
+    }
+    private final String command;
+    private final long requiredCapabilities;
+    private final boolean repeatable;
+
+    Command(String command, long requiredCapabilities, boolean repeatable) {
+        this.command = command;
+        this.requiredCapabilities = requiredCapabilities;
+        this.repeatable = repeatable;
+    }
+
+    /**
+     * returns the Command for the String used in the CommandResource
+     * @param command the command
+     * @return the Command or null if unknown
+     */
+    public static Command fromString(String command) {
+        if (command == null)
+            return null;
+        return commands.get(command);
+    }
+
+    /**
+     * returns the String used in the CommandResource
+     * @return the command
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * returns whether the player is capable of handling the command
+     * @param capabilities the capabilities of the player
+     * @return true if capable, false if not
+     */
+    public boolean isSupportedBy(Capabilities capabilities) {
+        return (capabilities.toBits() & requiredCapabilities) == requiredCapabilities;
+    }
+
+    /**
+     * returns whether executing the command multiple times for the same event has a different effect than executing
+     * it once. Commands which take their argument from the event (for example the Volume) are not repeatable.
+     * @return true if repeatable
+     */
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+}
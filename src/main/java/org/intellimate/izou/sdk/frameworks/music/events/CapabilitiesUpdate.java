@@ -0,0 +1,49 @@
+package org.intellimate.izou.sdk.frameworks.music.events;
+
+import org.intellimate.izou.identification.Identification;
+import org.intellimate.izou.sdk.events.CommonEvents;
+import org.intellimate.izou.sdk.events.Event;
+import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.frameworks.music.resources.CapabilitiesResource;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * fired by the player when its Capabilities changed
+ * @version 1.0
+ */
+public class CapabilitiesUpdate extends Event {
+    @SuppressWarnings("SpellCheckingInspection")
+    public static final String ID = "izou.music.events.capabilitiesupdate";
+
+    /**
+     * Creates a new Event Object
+     *
+     * @param source      the source of the Event, most likely a this reference.
+     * @throws IllegalArgumentException if one of the Arguments is null or empty
+     */
+    protected CapabilitiesUpdate(Identification source) throws IllegalArgumentException {
+        super(CommonEvents.Type.NOTIFICATION_TYPE, source, Collections.singletonList(ID));
+    }
+
+    /**
+     * Creates a new Event Object
+     *
+     * @param source      the source of the Event, most likely a this reference.
+     * @param capabilities the new capabilities, not null
+     * @return the optional CapabilitiesUpdate (if no illegal arguments got passed)
+     */
+    public static Optional<CapabilitiesUpdate> createCapabilitiesUpdate(Identification source,
+                                                                        Capabilities capabilities) {
+        if (capabilities == null)
+            return Optional.empty();
+        try {
+            CapabilitiesUpdate capabilitiesUpdate = new CapabilitiesUpdate(source);
+            capabilitiesUpdate.addResource(new CapabilitiesResource(source, capabilities));
+            return Optional.of(capabilitiesUpdate);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
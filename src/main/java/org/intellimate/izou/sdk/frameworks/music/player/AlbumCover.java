@@ -0,0 +1,138 @@
+package org.intellimate.izou.sdk.frameworks.music.player;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * an album cover, identified by the SHA-256 hash of its content.
+ * <p>
+ * Album covers are interned: while a cover is in the store, every {@link #of(byte[])} with the same content returns
+ * the same instance, so equal covers are kept only once in memory and comparing them is a hash compare. A new cover
+ * is copied, so the caller may reuse its array. The hash is only computed when a cover enters the SDK: passing the
+ * bytes owned by an interned cover (for example from an exported TrackInfo) returns it without hashing again.
+ * The store evicts the least recently used covers when their size exceeds the capacity, evicted covers stay valid
+ * as long as they are referenced. This class is immutable, do not modify the returned bytes!
+ * </p>
+ * @version 1.0
+ */
+public final class AlbumCover {
+    /**
+     * the default capacity of the store in bytes (32 MB)
+     */
+    public static final long DEFAULT_STORE_CAPACITY = 32 * 1024 * 1024;
+    private static final LinkedHashMap<AlbumCover, AlbumCover> store = new LinkedHashMap<>(16, 0.75f, true);
+    private static final IdentityHashMap<byte[], AlbumCover> byData = new IdentityHashMap<>();
+    private static long storeCapacity = DEFAULT_STORE_CAPACITY;
+    private static long storeSize = 0;
+    private final byte[] data;
+    private final byte[] hash;
+    private final int hashCode;
+
+    private AlbumCover(byte[] data, byte[] hash) {
+        this.data = data;
+        this.hash = hash;
+        this.hashCode = Arrays.hashCode(hash);
+    }
+
+    /**
+     * returns the interned AlbumCover for the data
+     * @param data the bytes of the cover, copied if the cover is new
+     * @return the AlbumCover or null if data is null
+     */
+    public static AlbumCover of(byte[] data) {
+        if (data == null)
+            return null;
+        synchronized (store) {
+            AlbumCover interned = byData.get(data);
+            if (interned != null) {
+                //refreshes the access-order of the store
+                store.get(interned);
+                return interned;
+            }
+        }
+        byte[] hash = hash(data);
+        AlbumCover albumCover = new AlbumCover(data, hash);
+        synchronized (store) {
+            AlbumCover existing = store.get(albumCover);
+            if (existing != null)
+                return existing;
+            //the store only keeps (and indexes) arrays owned by the SDK
+            albumCover = new AlbumCover(data.clone(), hash);
+            if (data.length <= storeCapacity) {
+                store.put(albumCover, albumCover);
+                byData.put(albumCover.data, albumCover);
+                storeSize += data.length;
+                evict();
+            }
+        }
+        return albumCover;
+    }
+
+    /**
+     * sets the capacity of the store
+     * @param capacity the capacity in bytes
+     */
+    public static void setStoreCapacity(long capacity) {
+        synchronized (store) {
+            storeCapacity = capacity;
+            evict();
+        }
+    }
+
+    /**
+     * removes the least recently used covers until the store fits the capacity
+     */
+    private static void evict() {
+        Iterator<Map.Entry<AlbumCover, AlbumCover>> iterator = store.entrySet().iterator();
+        while (storeSize > storeCapacity && iterator.hasNext()) {
+            AlbumCover evicted = iterator.next().getKey();
+            storeSize -= evicted.data.length;
+            byData.remove(evicted.data);
+            iterator.remove();
+        }
+    }
+
+    /**
+     * computes the SHA-256 hash of the data
+     * @param data the data
+     * @return the hash
+     */
+    private static byte[] hash(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            //every java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * returns the bytes of the cover
+     * @return the bytes, must not be modified
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * returns the SHA-256 hash of the cover
+     * @return a copy of the hash
+     */
+    public byte[] getHash() {
+        return hash.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AlbumCover)) return false;
+        AlbumCover that = (AlbumCover) o;
+        return hashCode == that.hashCode && Arrays.equals(hash, that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
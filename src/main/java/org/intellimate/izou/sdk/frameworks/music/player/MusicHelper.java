@@ -1,9 +1,11 @@
 package org.intellimate.izou.sdk.frameworks.music.player;
 
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.identification.IdentificationManagerM;
+import org.intellimate.izou.sdk.events.CommonEvents;
 import org.intellimate.izou.sdk.events.Event;
 import org.intellimate.izou.sdk.frameworks.common.resources.SelectorResource;
+import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.frameworks.music.events.CapabilitiesUpdate;
 import org.intellimate.izou.sdk.frameworks.music.events.PlayerError;
 import org.intellimate.izou.sdk.frameworks.music.events.PlayerUpdate;
 import org.intellimate.izou.sdk.frameworks.music.resources.*;
@@ -38,27 +40,28 @@ public interface MusicHelper extends PermanentSoundHelper {
      * @param isUsingJava true if using java, false if not (and for example a C-library)
      */
     default void startedSound(Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume, boolean isUsingJava) {
-        Optional<Event> startEvent = IdentificationManagerM.getInstance().getIdentification(this)
-                .flatMap(PlayerUpdate::createPlayerUpdate)
-                .map(event -> event.addDescriptor(StartEvent.ID))
-                .map(event -> isUsingJava ? event : event.addDescriptor(StartEvent.IS_USING_NON_JAVA_OUTPUT));
-        Optional<Identification> id = IdentificationManagerM.getInstance().getIdentification(this);
-        if (!startEvent.isPresent() || !id.isPresent()) {
+        Optional<Identification> id = getIdentification();
+        Optional<Event> startEvent = id
+                .map(source -> {
+                    Event.Builder builder = Event.builder(CommonEvents.Type.RESPONSE_TYPE, source)
+                            .addDescriptor(PlayerUpdate.ID)
+                            .addDescriptor(StartEvent.ID);
+                    if (!isUsingJava)
+                        builder.addDescriptor(StartEvent.IS_USING_NON_JAVA_OUTPUT);
+                    if (playlist != null)
+                        builder.addResource(new PlaylistResource(source, playlist));
+                    if (progress != null)
+                        builder.addResource(new ProgressResource(source, progress));
+                    if (trackInfo != null)
+                        builder.addResource(new TrackInfoResource(source, trackInfo));
+                    if (volume != null)
+                        builder.addResource(new VolumeResource(source, volume));
+                    return builder;
+                })
+                .flatMap(Event.Builder::build);
+        if (!startEvent.isPresent()) {
             getContext().getLogger().error("unable to fire PlayerUpdate");
         } else {
-            startEvent.get().addDescriptor(StartEvent.ID);
-            if (playlist != null) {
-                startEvent.get().addResource(new PlaylistResource(id.get(), playlist));
-            }
-            if (progress != null) {
-                startEvent.get().addResource(new ProgressResource(id.get(), progress));
-            }
-            if (trackInfo != null) {
-                startEvent.get().addResource(new TrackInfoResource(id.get(), trackInfo));
-            }
-            if (volume != null) {
-                startEvent.get().addResource(new VolumeResource(id.get(), volume));
-            }
             getContext().getEvents().distributor().fireEventConcurrently(startEvent.get());
         }
     }
@@ -68,7 +71,7 @@ public interface MusicHelper extends PermanentSoundHelper {
      * @param message the message
      */
     default void playerError(String message) {
-        Optional<PlayerError> playerError = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<PlayerError> playerError = getIdentification()
                 .flatMap(id -> PlayerError.createMusicPlayerError(id, message));
         if (!playerError.isPresent()) {
             getContext().getLogger().error("unable to fire PlayerError");
@@ -83,9 +86,9 @@ public interface MusicHelper extends PermanentSoundHelper {
      * @param target the one who caused the error
      */
     default void playerError(String message, Identification target) {
-        Optional<PlayerError> playerError = IdentificationManagerM.getInstance().getIdentification(this)
-                .flatMap(id -> PlayerError.createMusicPlayerError(id, message));
-        Optional<Identification> id = IdentificationManagerM.getInstance().getIdentification(this);
+        Optional<Identification> id = getIdentification();
+        Optional<PlayerError> playerError = id
+                .flatMap(identification -> PlayerError.createMusicPlayerError(identification, message));
         if (!playerError.isPresent() || !id.isPresent()) {
             getContext().getLogger().error("unable to fire PlayerError");
         } else {
@@ -102,9 +105,8 @@ public interface MusicHelper extends PermanentSoundHelper {
      * @param volume the optional volume
      */
     default void updatePlayInfo(Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume) {
-        Optional<PlayerUpdate> updateEvent = IdentificationManagerM.getInstance().getIdentification(this)
-                .flatMap(PlayerUpdate::createPlayerUpdate);
-        Optional<Identification> id = IdentificationManagerM.getInstance().getIdentification(this);
+        Optional<Identification> id = getIdentification();
+        Optional<PlayerUpdate> updateEvent = id.flatMap(PlayerUpdate::createPlayerUpdate);
         if (!updateEvent.isPresent() || !id.isPresent()) {
             getContext().getLogger().error("unable to fire PlayerUpdate");
         } else {
@@ -120,7 +122,7 @@ public interface MusicHelper extends PermanentSoundHelper {
             if (volume != null) {
                 updateEvent.get().addResource(new VolumeResource(id.get(), volume));
             }
-            fire(updateEvent.get(), 5);
+            fireAsyncInOrder(updateEvent.get());
         }
     }
 
@@ -156,6 +158,20 @@ public interface MusicHelper extends PermanentSoundHelper {
         updatePlayInfo(null, null, null, volume);
     }
 
+    /**
+     * fires a CapabilitiesUpdate, call this method if the Capabilities of the player changed
+     * @param capabilities the new capabilities
+     */
+    default void updateCapabilities(Capabilities capabilities) {
+        Optional<CapabilitiesUpdate> updateEvent = getIdentification()
+                .flatMap(id -> CapabilitiesUpdate.createCapabilitiesUpdate(id, capabilities));
+        if (!updateEvent.isPresent()) {
+            getContext().getLogger().error("unable to fire CapabilitiesUpdate");
+        } else {
+            fireAsyncInOrder(updateEvent.get());
+        }
+    }
+
     /**
      * updates the PlaybackState
      * @param playbackState the playbackState
@@ -163,14 +179,13 @@ public interface MusicHelper extends PermanentSoundHelper {
     default void updateStateInfo(PlaybackState playbackState) {
         if (playbackState == null)
             return;
-        Optional<PlayerUpdate> updateEvent = IdentificationManagerM.getInstance().getIdentification(this)
-                .flatMap(PlayerUpdate::createPlayerUpdate);
-        Optional<Identification> id = IdentificationManagerM.getInstance().getIdentification(this);
+        Optional<Identification> id = getIdentification();
+        Optional<PlayerUpdate> updateEvent = id.flatMap(PlayerUpdate::createPlayerUpdate);
         if (!updateEvent.isPresent() || !id.isPresent()) {
             getContext().getLogger().error("unable to fire PlayerUpdate");
         } else {
             updateEvent.get().addResource(new PlaybackStateResource(id.get(), playbackState));
-            fire(updateEvent.get(), 5);
+            fireAsyncInOrder(updateEvent.get());
         }
     }
 }
@@ -1,7 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.music.player;
 
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.frameworks.music.resources.*;
 import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.output.PermanentSoundResources;
@@ -23,7 +22,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
     @Override
     default List<? extends ResourceModel> announceResources() {
         List<ResourceModel> list = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(this)
+        getIdentification()
                 .ifPresent(id -> {
                     list.add(new CapabilitiesResource(id));
                     list.add(new NowPlayingResource(id));
@@ -66,8 +65,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "PlaybackState: returned null");
             return Optional.empty();
         }
-        Optional<PlaybackStateResource> playbackStateResource = IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        Optional<PlaybackStateResource> playbackStateResource = getIdentification()
                 .map(id -> new PlaybackStateResource(id, getPlaybackState()));
         if (!playbackStateResource.isPresent()) {
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "PlaybackStateResource");
@@ -84,8 +82,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "VolumeResource: returned null");
             return Optional.empty();
         }
-        Optional<VolumeResource> playerResource = IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        Optional<VolumeResource> playerResource = getIdentification()
                 .map(id -> new VolumeResource(id, getVolume()));
         if (!playerResource.isPresent()) {
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "VolumeResource");
@@ -105,8 +102,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "TrackInfo: returned null");
             return Optional.empty();
         } else {
-            Optional<TrackInfoResource> nowPlayingResource = IdentificationManagerM.getInstance()
-                    .getIdentification(this)
+            Optional<TrackInfoResource> nowPlayingResource = getIdentification()
                     .map(id -> new TrackInfoResource(id, getCurrentPlaylist().getCurrent()));
             if (!nowPlayingResource.isPresent()) {
                 getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "TrackInfo");
@@ -127,8 +123,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "ProgressResource: returned null");
             return Optional.empty();
         } else {
-            Optional<ProgressResource> nowPlayingResource = IdentificationManagerM.getInstance()
-                    .getIdentification(this)
+            Optional<ProgressResource> nowPlayingResource = getIdentification()
                     .map(id -> new ProgressResource(id, getCurrentProgress()));
             if (!nowPlayingResource.isPresent()) {
                 getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "ProgressResource");
@@ -142,8 +137,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
      * @return the Resource
      */
     default Optional<? extends ResourceModel> createPlayerResource() {
-        Optional<PlayerResource> playerResource = IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        Optional<PlayerResource> playerResource = getIdentification()
                 .map(PlayerResource::new);
         if (!playerResource.isPresent()) {
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "PlayerResource");
@@ -163,8 +157,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "NowPlayingResource: returned null");
             return Optional.empty();
         } else {
-            Optional<NowPlayingResource> nowPlayingResource = IdentificationManagerM.getInstance()
-                    .getIdentification(this)
+            Optional<NowPlayingResource> nowPlayingResource = getIdentification()
                     .map(id -> new NowPlayingResource(id, getCurrentPlaylist()));
             if (!nowPlayingResource.isPresent()) {
                 getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "NowPlayingResource");
@@ -182,7 +175,7 @@ public interface MusicResourceGenerator extends PermanentSoundResources, MusicPr
             getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "Capabilities: returned null");
             return Optional.empty();
         }
-        return IdentificationManagerM.getInstance().getIdentification(this)
+        return getIdentification()
                 .map(id -> new CapabilitiesResource(id, getCapabilities()));
     }
 }
@@ -0,0 +1,153 @@
+package org.intellimate.izou.sdk.frameworks.music.player;
+
+import org.intellimate.izou.sdk.Context;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * coalesces the updates of a Player, so that at most one PlayerUpdate is fired per interval.
+ * <p>
+ * The first update after an idle interval is fired immediately, all the following updates are merged (the newest
+ * value for the Playlist, Progress, TrackInfo and Volume wins) and fired together when the interval elapsed.
+ * Receivers should extrapolate the current position from the Progress (see {@link Progress#getPosition()}) instead
+ * of relying on frequent updates.
+ * </p>
+ * @version 1.0
+ */
+public class PlayerUpdatePublisher {
+    private final Context context;
+    private final long interval;
+    private final Publish publish;
+    private Playlist playlist = null;
+    private Progress progress = null;
+    private TrackInfo trackInfo = null;
+    private Volume volume = null;
+    private ScheduledFuture<?> scheduled = null;
+    private long lastPublished = 0;
+
+    /**
+     * creates a new PlayerUpdatePublisher, which fires the updates via
+     * {@link MusicHelper#updatePlayInfo(Playlist, Progress, TrackInfo, Volume)}
+     * @param musicHelper the MusicHelper used to fire the updates
+     * @param interval the minimum interval between two updates in milliseconds
+     */
+    public PlayerUpdatePublisher(MusicHelper musicHelper, long interval) {
+        this(musicHelper.getContext(), interval, musicHelper::updatePlayInfo);
+    }
+
+    /**
+     * creates a new PlayerUpdatePublisher
+     * @param context the context used to schedule the updates
+     * @param interval the minimum interval between two updates in milliseconds
+     * @param publish the callback which fires the merged update
+     */
+    public PlayerUpdatePublisher(Context context, long interval, Publish publish) {
+        this.context = context;
+        this.interval = interval;
+        this.publish = publish;
+    }
+
+    /**
+     * returns the minimum interval between two updates
+     * @return the interval in milliseconds
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * merges the update with the pending changes and fires them if the interval elapsed
+     * @param playlist the optional playlist
+     * @param progress the optional progress
+     * @param trackInfo the optional trackInfo
+     * @param volume the optional volume
+     */
+    public void update(Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume) {
+        synchronized (this) {
+            if (playlist != null)
+                this.playlist = playlist;
+            if (progress != null)
+                this.progress = progress;
+            if (trackInfo != null)
+                this.trackInfo = trackInfo;
+            if (volume != null)
+                this.volume = volume;
+            if (scheduled != null)
+                return;
+            long delay = lastPublished + interval - System.currentTimeMillis();
+            if (delay > 0) {
+                try {
+                    scheduled = context.getThreadPool().getScheduler()
+                            .schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    context.getLogger().error("unable to schedule PlayerUpdate, firing now", e);
+                }
+            }
+        }
+        flush();
+    }
+
+    /**
+     * fires the pending changes immediately, if there are any
+     */
+    public void flush() {
+        Playlist playlist;
+        Progress progress;
+        TrackInfo trackInfo;
+        Volume volume;
+        synchronized (this) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+                scheduled = null;
+            }
+            if (this.playlist == null && this.progress == null && this.trackInfo == null && this.volume == null)
+                return;
+            playlist = this.playlist;
+            progress = this.progress;
+            trackInfo = this.trackInfo;
+            volume = this.volume;
+            clear();
+            lastPublished = System.currentTimeMillis();
+        }
+        publish.publish(playlist, progress, trackInfo, volume);
+    }
+
+    /**
+     * discards the pending changes without firing them
+     */
+    public synchronized void cancel() {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        clear();
+    }
+
+    /**
+     * resets the pending changes
+     */
+    private void clear() {
+        playlist = null;
+        progress = null;
+        trackInfo = null;
+        volume = null;
+    }
+
+    /**
+     * fires the merged update, all arguments are optional
+     */
+    @FunctionalInterface
+    public interface Publish {
+        /**
+         * fires an update event which notifies that parameters have changed
+         * @param playlist the optional playlist
+         * @param progress the optional progress
+         * @param trackInfo the optional trackInfo
+         * @param volume the optional volume
+         */
+        void publish(Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume);
+    }
+}
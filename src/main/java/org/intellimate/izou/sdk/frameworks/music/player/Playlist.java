@@ -2,18 +2,23 @@ package org.intellimate.izou.sdk.frameworks.music.player;
 
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.util.LazyExport;
 
 import java.util.*;
 
 /**
  * a playlist is a list of TrackInfo-objects, it is immutable!
+ * <p>
+ * The queue is shared between the Playlists derived from each other, so changing the position is O(1) and updating
+ * a single TrackInfo is O(log n).
+ * </p>
  * @author LeanderK
  * @version 1.0
  */
 @SuppressWarnings("unused")
 public class Playlist {
     public static final String QUEUE_DESCRIPTOR = "izou.music.playlist.queue";
-    private final List<TrackInfo> queue;
+    private final TrackQueue queue;
     public static final String POSITION_DESCRIPTOR = "izou.music.playlist.position";
     private final int position;
     public static final String NAME_DESCRIPTOR = "izou.music.playlist.name";
@@ -36,16 +41,16 @@ public class Playlist {
     }
 
     public Playlist(List<TrackInfo> queue, String name, List<PlaybackMode> playbackModes, int position, String data) {
-        this.queue = Collections.unmodifiableList(new ArrayList<>(queue));
+        this.queue = TrackQueue.of(queue);
         this.position = position;
         this.name = name;
-        this.playbackModes = new ArrayList<>(playbackModes);
+        this.playbackModes = Collections.unmodifiableList(new ArrayList<>(playbackModes));
         this.data = data;
     }
 
     /**
      * returns the queue
-     * @return the List of TrackInfo-objects
+     * @return the immutable List of TrackInfo-objects
      */
     public List<TrackInfo> getQueue() {
         return queue;
@@ -90,7 +95,7 @@ public class Playlist {
 
     /**
      * retruns the active PlaybackModes
-     * @return the playbackModes
+     * @return the immutable List of playbackModes
      */
     public List<PlaybackMode> getPlaybackModes() {
         return playbackModes;
@@ -137,7 +142,7 @@ public class Playlist {
      * @return a new Playlist
      */
     public Playlist nextTrack() {
-        return new Playlist(queue, name, playbackModes, position + 1);
+        return new Playlist(queue, name, playbackModes, position + 1, data);
     }
 
     /**
@@ -146,7 +151,7 @@ public class Playlist {
      * @return a new Playlist
      */
     public Playlist setNewPosition(int position) {
-        return new Playlist(queue, name, playbackModes, position);
+        return new Playlist(queue, name, playbackModes, position, data);
     }
 
     /**
@@ -156,9 +161,18 @@ public class Playlist {
      * @return the resulting new Playlist
      */
     public Playlist update(TrackInfo old, TrackInfo newTrackInfo) {
-        List<TrackInfo> list = new ArrayList<>(queue);
-        list.set(list.indexOf(old), newTrackInfo);
-        return new Playlist(queue, name, playbackModes, position);
+        return update(queue.indexOf(old), newTrackInfo);
+    }
+
+    /**
+     * updates the TrackInfo-Object at the index
+     * @param index the index of the TrackInfo in the queue
+     * @param newTrackInfo the new TrackInfo
+     * @return the resulting new Playlist
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Playlist update(int index, TrackInfo newTrackInfo) throws IndexOutOfBoundsException {
+        return new Playlist(queue.with(index, newTrackInfo), name, playbackModes, position, data);
     }
 
     /**
@@ -172,7 +186,7 @@ public class Playlist {
         long seed = System.nanoTime();
 
         if (position >= 0 && position < queue.size()) {
-            List<TrackInfo> trackInfos = queue.subList(0, position);
+            List<TrackInfo> trackInfos = new ArrayList<>(queue.subList(0, position));
             List<TrackInfo> notPlayed = queue.subList(position, queue.size());
 
             List<TrackInfo> shuffledNotPlayed = new ArrayList<>(notPlayed);
@@ -218,10 +232,22 @@ public class Playlist {
     }
 
     /**
-     * exports the Playlist to a HashMap
+     * exports the Playlist to a HashMap.
+     * <p>
+     * The returned HashMap carries this Playlist and creates the entries only when accessed (see
+     * {@link LazyExport}).
+     * </p>
      * @return a HashMap
      */
     public HashMap<String, Object> export() {
+        return new LazyExport<>(this, Playlist::exportToHashMap);
+    }
+
+    /**
+     * exports the Playlist to a HashMap with an entry for every descriptor
+     * @return a HashMap
+     */
+    private HashMap<String, Object> exportToHashMap() {
         HashMap<String, Object> data = new HashMap<>();
         for (int i = 0; i < queue.size(); i++) {
             data.put(QUEUE_DESCRIPTOR+i, queue.get(i).export());
@@ -242,39 +268,58 @@ public class Playlist {
      */
     public static Optional<Playlist> importResource(ResourceModel resourceModel) {
         Object resource = resourceModel.getResource();
+        Optional<Playlist> exported = LazyExport.getValue(resource, Playlist.class);
+        if (exported.isPresent())
+            return exported;
         try {
             //noinspection unchecked
             HashMap<String, Object> data = (HashMap<String, Object>) resource;
-            ArrayList<TrackInfo> queue = new ArrayList<>();
-            ArrayList<PlaybackMode> playbackModes = new ArrayList<>();
-            final String[] name = {null};
-            final int[] position = {-1};
-            final String[] dataString = {null};
-            data.entrySet().forEach(entry -> {
-                if (entry.getKey().startsWith(QUEUE_DESCRIPTOR)) {
-                    int index = Integer.parseInt(entry.getKey().replace(QUEUE_DESCRIPTOR, ""));
+            TrackInfo[] queue = new TrackInfo[data.size()];
+            PlaybackMode[] playbackModes = new PlaybackMode[data.size()];
+            String name = null;
+            int position = -1;
+            String dataString = null;
+            for (Map.Entry<String, Object> entry : data.entrySet()) {
+                String key = entry.getKey();
+                if (key.startsWith(QUEUE_DESCRIPTOR)) {
+                    int index = Integer.parseInt(key.substring(QUEUE_DESCRIPTOR.length()));
                     //noinspection unchecked
-                    TrackInfo.importFromHashMap((HashMap<String, Object>) entry.getValue())
-                            .ifPresent(trackInfo -> queue.add(index, trackInfo));
-                } else if (entry.getKey().startsWith(PLAYBACK_MODE_DESCRIPTOR)) {
+                    queue[index] = TrackInfo.importFromHashMap((HashMap<String, Object>) entry.getValue())
+                            .orElse(null);
+                } else if (key.startsWith(PLAYBACK_MODE_DESCRIPTOR)) {
                     try {
-                        int index = Integer.parseInt(entry.getKey().replace(PLAYBACK_MODE_DESCRIPTOR, ""));
-                        //noinspection unchecked
-                        playbackModes.add(index, PlaybackMode.valueOf((String) entry.getValue()));
+                        int index = Integer.parseInt(key.substring(PLAYBACK_MODE_DESCRIPTOR.length()));
+                        playbackModes[index] = PlaybackMode.valueOf((String) entry.getValue());
                     } catch (IllegalArgumentException ignored) {
                         //happens when the name is not present...maybe future sdks define other playbackModes
                     }
-                } else if (entry.getKey().equals(NAME_DESCRIPTOR)) {
-                    name[0] = (String) entry.getValue();
-                } else if (entry.getKey().equals(POSITION_DESCRIPTOR)) {
-                    position[0] = (int) entry.getValue();
-                } else if (entry.getKey().equals(DATA_DESCRIPTOR)) {
-                    dataString[0] = (String) entry.getValue();
+                } else if (key.equals(NAME_DESCRIPTOR)) {
+                    name = (String) entry.getValue();
+                } else if (key.equals(POSITION_DESCRIPTOR)) {
+                    position = (int) entry.getValue();
+                } else if (key.equals(DATA_DESCRIPTOR)) {
+                    dataString = (String) entry.getValue();
                 }
-            });
-            return Optional.of(new Playlist(queue, name[0] , playbackModes, position[0], dataString[0]));
-        } catch (ClassCastException | IllegalArgumentException e) {
+            }
+            return Optional.of(new Playlist(withoutNull(queue), name, withoutNull(playbackModes), position,
+                    dataString));
+        } catch (ClassCastException | IllegalArgumentException | IndexOutOfBoundsException e) {
             return Optional.empty();
         }
     }
+
+    /**
+     * returns the non-null elements of the array in order
+     * @param array the array
+     * @param <T> the type of the elements
+     * @return a List
+     */
+    private static <T> List<T> withoutNull(T[] array) {
+        List<T> list = new ArrayList<>();
+        for (T t : array) {
+            if (t != null)
+                list.add(t);
+        }
+        return list;
+    }
 }
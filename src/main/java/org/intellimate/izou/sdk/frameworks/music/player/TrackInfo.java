@@ -1,6 +1,7 @@
 package org.intellimate.izou.sdk.frameworks.music.player;
 
 import org.intellimate.izou.resource.ResourceModel;
+import org.intellimate.izou.sdk.util.LazyExport;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -21,7 +22,7 @@ public class TrackInfo {
     public static final String albumDescriptor = "izou.music.trackinfo.album";
     private final String album;
     public static final String albumCoverDescriptor = "izou.music.trackinfo.albumCover";
-    private final byte[] albumCover;
+    private final AlbumCover albumCover;
     public static final String albumCoverFormatDescriptor = "izou.music.trackinfo.albumCoverFormat";
     private final String albumCoverFormat;
     public static final String dataDescriptor = "izou.music.trackinfo.data";
@@ -65,7 +66,7 @@ public class TrackInfo {
         this.name = name;
         this.artist = artist;
         this.album = album;
-        this.albumCover = albumCover;
+        this.albumCover = AlbumCover.of(albumCover);
         this.albumCoverFormat = albumCoverFormat;
         data = null;
         year = null;
@@ -78,7 +79,7 @@ public class TrackInfo {
         this.name = name;
         this.artist = artist;
         this.album = album;
-        this.albumCover = albumCover;
+        this.albumCover = AlbumCover.of(albumCover);
         this.albumCoverFormat = albumCoverFormat;
         this.data = data;
         year = null;
@@ -88,6 +89,10 @@ public class TrackInfo {
     }
 
     public TrackInfo(String name, String artist, String album, byte[] albumCover, String albumCoverFormat, String data, String year, String genre, String bmp, long duration) {
+        this(AlbumCover.of(albumCover), name, artist, album, albumCoverFormat, data, year, genre, bmp, duration);
+    }
+
+    private TrackInfo(AlbumCover albumCover, String name, String artist, String album, String albumCoverFormat, String data, String year, String genre, String bmp, long duration) {
         this.name = name;
         this.artist = artist;
         this.album = album;
@@ -125,10 +130,25 @@ public class TrackInfo {
     }
 
     /**
-     * returns the album cover as bytes, format specified by: {@link #getAlbumCoverFormat()}.
+     * returns a copy of the album cover as bytes, format specified by: {@link #getAlbumCoverFormat()}.
+     * <p>
+     * Use {@link #getAlbumCoverHandle()} to compare or read the album cover without copying it.
+     * </p>
      * @return the optional Album Cover
      */
     public Optional<byte[]> getAlbumCover() {
+        if (albumCover == null) {
+            return Optional.empty();
+        } else {
+            return Optional.of(albumCover.getData().clone());
+        }
+    }
+
+    /**
+     * returns the interned album cover, which can be compared cheaply.
+     * @return the optional AlbumCover
+     */
+    public Optional<AlbumCover> getAlbumCoverHandle() {
         return getOptionalOrEmtpyIfNull(albumCover);
     }
 
@@ -230,6 +250,10 @@ public class TrackInfo {
      * @return true if new
      */
     public boolean isNew(String name, String artist, String album, byte[] albumCover, String albumCoverFormat, String id, String year, String genre, String bmp, long duration) {
+        return isNew(name, artist, album, toAlbumCover(albumCover), albumCoverFormat, id, year, genre, bmp, duration);
+    }
+
+    private boolean isNew(String name, String artist, String album, AlbumCover albumCover, String albumCoverFormat, String id, String year, String genre, String bmp, long duration) {
         if (name == null && artist == null && album == null && albumCover == null && id == null)
             return true;
         BiPredicate<String, String> compareStrings = (newString, oldString) ->
@@ -262,7 +286,7 @@ public class TrackInfo {
             return true;
         }
         if (albumCover != null) {
-            if (this.albumCover == null || !Arrays.equals(albumCover, this.albumCover))
+            if (!albumCover.equals(this.albumCover))
                 return true;
         }
         return false;
@@ -302,6 +326,10 @@ public class TrackInfo {
      * or 2. no change occured
      */
     public Optional<TrackInfo> update(String name, String artist, String album, byte[] albumCover, String coverFormat, String data, String year, String genre, String bmp, long duration) {
+        return update(name, artist, album, toAlbumCover(albumCover), coverFormat, data, year, genre, bmp, duration);
+    }
+
+    private Optional<TrackInfo> update(String name, String artist, String album, AlbumCover albumCover, String coverFormat, String data, String year, String genre, String bmp, long duration) {
         if (isNew(name, artist, album, albumCover, albumCoverFormat, data, year, genre, bmp, duration))
             return Optional.empty();
         boolean change = false;
@@ -338,10 +366,10 @@ public class TrackInfo {
         if (!change)
             return Optional.empty();
         return Optional.of(new TrackInfo(
+                this.albumCover == null? albumCover : this.albumCover,
                 this.name == null? name : this.name,
                 this.artist == null? artist : this.artist,
                 this.album == null? album : this.album,
-                this.albumCover == null? albumCover : this.albumCover,
                 this.albumCoverFormat == null? albumCoverFormat : this.albumCoverFormat,
                 this.data == null? data : this.data,
                 this.year == null? year : this.year,
@@ -352,16 +380,39 @@ public class TrackInfo {
     }
 
     /**
-     * exports the TrackInfo to a Hashmap
+     * interns the album cover, reusing the own AlbumCover if it has the same content (without hashing)
+     * @param albumCover the bytes of the album cover or null
+     * @return the AlbumCover or null
+     */
+    private AlbumCover toAlbumCover(byte[] albumCover) {
+        if (this.albumCover != null && Arrays.equals(this.albumCover.getData(), albumCover))
+            return this.albumCover;
+        return AlbumCover.of(albumCover);
+    }
+
+    /**
+     * exports the TrackInfo to a Hashmap.
+     * <p>
+     * The returned HashMap carries this TrackInfo and creates the entries only when accessed (see
+     * {@link LazyExport}).
+     * </p>
      * @return a HashMap
      */
     public HashMap<String, Object> export() {
+        return new LazyExport<>(this, TrackInfo::exportToHashMap);
+    }
+
+    /**
+     * exports the TrackInfo to a Hashmap with an entry for every descriptor
+     * @return a HashMap
+     */
+    private HashMap<String, Object> exportToHashMap() {
         HashMap<String, Object> data = new HashMap<>();
         data.put(nameDescriptor, name);
         data.put(artistDescriptor, artist);
-        data.put(albumDescriptor, albumDescriptor);
-        data.put(albumCoverDescriptor, albumCover);
-        data.put(albumCoverFormatDescriptor, albumCoverFormatDescriptor);
+        data.put(albumDescriptor, album);
+        data.put(albumCoverDescriptor, albumCover == null ? null : albumCover.getData());
+        data.put(albumCoverFormatDescriptor, albumCoverFormat);
         data.put(dataDescriptor, this.data);
         data.put(yearDescriptor, this.year);
         data.put(genreDescriptor, this.genre);
@@ -376,6 +427,9 @@ public class TrackInfo {
      * @return an optional
      */
     public static Optional<TrackInfo> importFromHashMap(HashMap<String, Object> hashMap) {
+        Optional<TrackInfo> exported = LazyExport.getValue(hashMap, TrackInfo.class);
+        if (exported.isPresent())
+            return exported;
         try {
             String name = (String) hashMap.get(nameDescriptor);
             String album = (String) hashMap.get(albumDescriptor);
@@ -0,0 +1,106 @@
+package org.intellimate.izou.sdk.frameworks.music.player;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * an immutable List of TrackInfo-objects, stored as a 32-way trie.
+ * <p>
+ * Changing one element only copies the path to it (O(log n)), all the other nodes are shared with the original
+ * TrackQueue. This class is immutable!
+ * </p>
+ * @version 1.0
+ */
+final class TrackQueue extends AbstractList<TrackInfo> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    static final TrackQueue EMPTY = new TrackQueue(0, 0, new Object[0]);
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private TrackQueue(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * returns a TrackQueue containing the elements of the list
+     * @param list the list to copy, if it is a TrackQueue it is returned directly
+     * @return a TrackQueue
+     */
+    static TrackQueue of(List<? extends TrackInfo> list) {
+        if (list instanceof TrackQueue)
+            return (TrackQueue) list;
+        int size = list.size();
+        if (size == 0)
+            return EMPTY;
+        Object[] nodes = new Object[(size + MASK) >>> BITS];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = list.subList(i << BITS, Math.min(size, (i + 1) << BITS)).toArray();
+        }
+        int shift = 0;
+        while (nodes.length > 1) {
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                int from = i << BITS;
+                Object[] parent = new Object[Math.min(WIDTH, nodes.length - from)];
+                System.arraycopy(nodes, from, parent, 0, parent.length);
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        return new TrackQueue(size, shift, (Object[]) nodes[0]);
+    }
+
+    @Override
+    public TrackInfo get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (TrackInfo) node[index & MASK];
+    }
+
+    /**
+     * returns a new TrackQueue with the element at the index replaced
+     * @param index the index of the element
+     * @param trackInfo the new element
+     * @return a new TrackQueue
+     */
+    TrackQueue with(int index, TrackInfo trackInfo) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return new TrackQueue(size, shift, with(root, shift, index, trackInfo));
+    }
+
+    /**
+     * copies the path to the element and replaces it
+     * @param node the current node
+     * @param level the shift of the current node
+     * @param index the index of the element
+     * @param trackInfo the new element
+     * @return the copied node
+     */
+    private static Object[] with(Object[] node, int level, int index, TrackInfo trackInfo) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = trackInfo;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = with((Object[]) node[child], level - BITS, index, trackInfo);
+        }
+        return copy;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
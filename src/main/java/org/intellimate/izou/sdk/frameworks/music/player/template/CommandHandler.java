@@ -3,6 +3,7 @@ package org.intellimate.izou.sdk.frameworks.music.player.template;
 import org.intellimate.izou.events.EventModel;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.frameworks.music.Command;
 import org.intellimate.izou.sdk.frameworks.music.events.PlayerError;
 import org.intellimate.izou.sdk.frameworks.music.player.*;
 import org.intellimate.izou.sdk.frameworks.music.resources.CommandResource;
@@ -10,13 +11,13 @@ import org.intellimate.izou.sdk.frameworks.music.resources.ProgressResource;
 import org.intellimate.izou.sdk.frameworks.music.resources.TrackInfoResource;
 import org.intellimate.izou.sdk.frameworks.music.resources.VolumeResource;
 
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * this class is used to handle the Commands and directs them to the registered methods.
@@ -36,6 +37,7 @@ public class CommandHandler {
     private Consumer<Volume> changeVolume;
     private Function<String, Playlist> playlistForNameFunction = null;
     private Supplier<List<String>> availablePlaylist = null;
+    private final EnumMap<Command, BiConsumer<EventModel, ResourceModel<String>>> handlers = new EnumMap<>(Command.class);
 
     /**
      * creates a new CommandHandler
@@ -50,6 +52,22 @@ public class CommandHandler {
         this.capabilities = capabilities;
         this.musicProvider = musicProvider;
         this.stopCallback = stopCallback;
+        handlers.put(Command.PLAY, (eventModel, resourceModel) -> {
+            if (!musicProvider.isPlaying())
+                playPause.accept(resourceModel.getResource());
+        });
+        handlers.put(Command.PAUSE, (eventModel, resourceModel) -> {
+            if (musicProvider.isPlaying())
+                playPause.accept(resourceModel.getResource());
+        });
+        handlers.put(Command.SELECT_TRACK, this::handleSelectTrack);
+        handlers.put(Command.NEXT, (eventModel, resourceModel) -> nextPrevious.accept(resourceModel.getResource()));
+        handlers.put(Command.PREVIOUS, (eventModel, resourceModel) -> nextPrevious.accept(resourceModel.getResource()));
+        handlers.put(Command.JUMP, this::handleJump);
+        handlers.put(Command.CHANGE_PLAYBACK, (eventModel, resourceModel) ->
+                changePlayback.accept(resourceModel.getResource()));
+        handlers.put(Command.CHANGE_VOLUME, this::handleVolume);
+        handlers.put(Command.STOP, (eventModel, resourceModel) -> stopCallback.run());
     }
 
     /**
@@ -132,54 +150,38 @@ public class CommandHandler {
     }
 
     /**
-     * this method gets called when a new Command was found. It automatically fires the update Event or an error
+     * this method gets called when a new Command was found. It automatically fires the update Event or an error.
+     * <p>
+     * The commands are executed in the order they were added to the event. Commands which are not repeatable (see
+     * {@link Command#isRepeatable()}) are only executed once per event.
+     * </p>
      * @param eventModel the event with the Commands
      */
     public void handleCommandResources(EventModel eventModel) {
-        List<ResourceModel<String>> resourceModels = eventModel.getListResourceContainer()
-                .provideResource(CommandResource.ResourceID)
-                .stream()
-                .filter(resourceModel -> resourceModel.getResource() instanceof String)
-                .map(resourceModel -> {
-                    try {
-                        //noinspection unchecked
-                        return (ResourceModel<String>) resourceModel;
-                    } catch (ClassCastException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        for (ResourceModel<String> resourceModel : resourceModels) {
-            if (!CommandResource.verifyCommand(resourceModel.getResource()))
+        List<ResourceModel> resourceModels = eventModel.getListResourceContainer()
+                .provideResource(CommandResource.ResourceID);
+        int executed = 0;
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < resourceModels.size(); i++) {
+            ResourceModel resourceModel = resourceModels.get(i);
+            if (!(resourceModel.getResource() instanceof String))
                 continue;
-            if (!CommandResource.verifyCapabilities(resourceModel.getResource(), capabilities)) {
+            Command command = Command.fromString((String) resourceModel.getResource());
+            if (command == null)
+                continue;
+            if (!command.isSupportedBy(capabilities)) {
                 musicHelper.playerError(PlayerError.ERROR_NOT_ABLE + "command: " + resourceModel.getResource(),
                         resourceModel.getProvider());
                 continue;
             }
-            switch (resourceModel.getResource()) {
-                case CommandResource.PLAY: if (!musicProvider.isPlaying())
-                    playPause.accept(resourceModel.getResource());
-                    break;
-                case CommandResource.PAUSE: if (musicProvider.isPlaying())
-                    playPause.accept(resourceModel.getResource());
-                    break;
-                case CommandResource.SELECT_TRACK: handleSelectTrack(eventModel, resourceModel);
-                    break;
-                case CommandResource.NEXT: nextPrevious.accept(resourceModel.getResource());
-                    break;
-                case CommandResource.PREVIOUS: nextPrevious.accept(resourceModel.getResource());
-                    break;
-                case CommandResource.JUMP: handleJump(eventModel, resourceModel);
-                    break;
-                case CommandResource.CHANGE_PLAYBACK: changePlayback.accept(resourceModel.getResource());
-                    break;
-                case CommandResource.CHANGE_VOLUME: handleVolume(eventModel, resourceModel);
-                    break;
-                case CommandResource.STOP: stopCallback.run();
-                    break;
+            if (!command.isRepeatable()) {
+                int bit = 1 << command.ordinal();
+                if ((executed & bit) != 0)
+                    continue;
+                executed |= bit;
             }
+            //noinspection unchecked
+            handlers.get(command).accept(eventModel, (ResourceModel<String>) resourceModel);
         }
     }
 
@@ -193,6 +195,7 @@ public class CommandHandler {
         if (!volumeResource.isPresent()) {
             musicHelper.playerError(PlayerError.ERROR_ILLEGAL + "command: " + resourceModel.getResource() + "missing resource",
                     resourceModel.getProvider());
+            return;
         }
         changeVolume.accept(volumeResource.get());
     }
@@ -207,6 +210,7 @@ public class CommandHandler {
         if (!progress.isPresent()) {
             musicHelper.playerError(PlayerError.ERROR_ILLEGAL + "command: " + resourceModel.getResource() + "missing resource",
                     resourceModel.getProvider());
+            return;
         }
         jumpProgress.accept(progress.get());
     }
@@ -221,6 +225,7 @@ public class CommandHandler {
         if (!trackInfo.isPresent()) {
             musicHelper.playerError(PlayerError.ERROR_ILLEGAL + "command: " + resourceModel.getResource() + "missing resource",
                     resourceModel.getProvider());
+            return;
         }
         selectTrack.accept(trackInfo.get());
     }
@@ -1,7 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.music.player.template;
 
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.frameworks.music.Capabilities;
@@ -44,7 +43,7 @@ public class InformationProvider extends AddOnModule implements MusicResourceGen
     @Override
     public List<? extends ResourceModel> announceResources() {
         List<ResourceModel> list = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(this)
+        getIdentification()
                 .ifPresent(id -> {
                     list.add(new BroadcasterAvailablePlaylists(id));
                     list.add(new BroadcasterPlaylist(id));
@@ -83,8 +82,7 @@ public class InformationProvider extends AddOnModule implements MusicResourceGen
                     return Optional.empty();
                 }
                 Playlist playlist = commandHandler.getPlaylistFromName((String) hashMap.get(BroadcasterPlaylist.RESOURCE_ID));
-                Optional<BroadcasterPlaylist> BroadcasterPlaylistResource = IdentificationManagerM.getInstance()
-                        .getIdentification(this)
+                Optional<BroadcasterPlaylist> BroadcasterPlaylistResource = getIdentification()
                         .map(id -> BroadcasterPlaylist.createPlaylistAnswer(id, playlist));
                 if (!BroadcasterPlaylistResource.isPresent()) {
                     getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "BroadcasterPlaylist");
@@ -103,8 +101,7 @@ public class InformationProvider extends AddOnModule implements MusicResourceGen
             return Optional.empty();
         } else {
             List<String> playlists = commandHandler.getAvailablePlaylists();
-            Optional<BroadcasterAvailablePlaylists> BroadcasterPlaylistResource = IdentificationManagerM.getInstance()
-                    .getIdentification(this)
+            Optional<BroadcasterAvailablePlaylists> BroadcasterPlaylistResource = getIdentification()
                     .map(id -> new BroadcasterAvailablePlaylists(id, playlists));
             if (!BroadcasterPlaylistResource.isPresent()) {
                 getContext().getLogger().error(PROVIDE_RESOURCE_ERROR_GENERATING + "BroadcasterAvailablePlaylists");
@@ -4,7 +4,6 @@ import org.intellimate.izou.events.EventListenerModel;
 import org.intellimate.izou.events.EventModel;
 import org.intellimate.izou.identification.Identifiable;
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceBuilderModel;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
@@ -61,6 +60,7 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
     private final InformationProvider informationProvider;
     final boolean isUsingJava;
     private final Lock lock = new ReentrantLock();
+    private volatile PlayerUpdatePublisher updatePublisher = null;
     Condition blockRequest = null;
 
     /**
@@ -159,6 +159,45 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
                 commandHandler);
     }
 
+    /**
+     * sets the minimum interval between two PlayerUpdates.
+     * <p>
+     * If positive, all the updates of the Playlist, Progress, TrackInfo and Volume within the interval are merged
+     * into one PlayerUpdate (see {@link PlayerUpdatePublisher}). Useful if the Player reports its Progress
+     * frequently. 0 (the default) fires every update immediately.
+     * </p>
+     * @param interval the interval in milliseconds
+     */
+    @SuppressWarnings("unused")
+    public void setUpdateInterval(long interval) {
+        PlayerUpdatePublisher old = updatePublisher;
+        if (interval > 0) {
+            updatePublisher = new PlayerUpdatePublisher(getContext(), interval,
+                    (playlist, progress, trackInfo, volume) ->
+                            MusicHelper.super.updatePlayInfo(playlist, progress, trackInfo, volume));
+        } else {
+            updatePublisher = null;
+        }
+        if (old != null)
+            old.flush();
+    }
+
+    /**
+     * fires the update, either immediately or coalesced if an update interval is set
+     * @param playlist the optional playlist
+     * @param progress the optional progress
+     * @param trackInfo the optional trackInfo
+     * @param volume the optional volume
+     */
+    private void publishPlayInfo(Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume) {
+        PlayerUpdatePublisher publisher = updatePublisher;
+        if (publisher != null) {
+            publisher.update(playlist, progress, trackInfo, volume);
+        } else {
+            MusicHelper.super.updatePlayInfo(playlist, progress, trackInfo, volume);
+        }
+    }
+
     /**
      * returns the CommandHandler
      * @return the CommandHandler
@@ -244,7 +283,7 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
     @Override
     public void updatePlayInfo(Playlist playlist) {
         this.playlist = playlist;
-        MusicHelper.super.updatePlayInfo(playlist);
+        publishPlayInfo(playlist, null, null, null);
     }
 
     /**
@@ -295,7 +334,7 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
         if (this.volume.equals(volume))
             return;
         this.volume = volume;
-        MusicHelper.super.updatePlayInfo(volume);
+        publishPlayInfo(null, null, null, volume);
     }
 
     /**
@@ -316,7 +355,7 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
     @Override
     public void updatePlayInfo(Progress progress) {
         this.progress = progress;
-        MusicHelper.super.updatePlayInfo(progress);
+        publishPlayInfo(null, progress, null, null);
     }
 
     /**
@@ -386,7 +425,7 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
             this.progress = progress;
         if (volume != null)
             this.volume = volume;
-        MusicHelper.super.updatePlayInfo(playlist, progress, null, volume);
+        publishPlayInfo(playlist, progress, trackInfo, volume);
     }
 
     /**
@@ -501,14 +540,14 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
             //composes a new Function which appends the Volume to the result
             getStartMusicRequest = getStartMusicRequest.andThen(
                     VolumeResource.getVolume(eventModel)
-                    .flatMap(volume -> IdentificationManagerM.getInstance().getIdentification(this)
+                    .flatMap(volume -> getIdentification()
                             .map(identification -> new VolumeResource(identification, volume)))
                     .map(resource -> (Function<Optional<StartMusicRequest>, Optional<StartMusicRequest>>) opt ->
                                     opt.map(event -> (StartMusicRequest) event.addResource(resource))
                     )
                     .orElse(Function.identity())::apply);
 
-            IdentificationManagerM.getInstance().getIdentification(this)
+            getIdentification()
                     .flatMap(getStartMusicRequest::apply)
                     .ifPresent(this::fire);
         } else {
@@ -624,6 +663,9 @@ public abstract class Player<T> extends OutputPlugin<T> implements MusicProvider
      * sets every information into its default state (playlist, volume, etc...)
      */
     public void rollBackToDefault() {
+        PlayerUpdatePublisher publisher = updatePublisher;
+        if (publisher != null)
+            publisher.cancel();
         playlist = new Playlist(new ArrayList<>());
         volume = Volume.createVolume(50).orElse(null);
         progress = new Progress(0,0);
@@ -1,8 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.music.player.template;
 
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.identification.IdentificationManager;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.activator.Activator;
 import org.intellimate.izou.sdk.frameworks.music.events.PlayerCommand;
@@ -16,6 +14,7 @@ import org.intellimate.izou.sdk.frameworks.music.resources.PlaylistResource;
 import org.intellimate.izou.sdk.frameworks.music.resources.ProgressResource;
 import org.intellimate.izou.sdk.frameworks.music.resources.TrackInfoResource;
 import org.intellimate.izou.sdk.frameworks.music.resources.VolumeResource;
+import org.intellimate.izou.sdk.util.IdentificationProvider;
 
 import java.util.Optional;
 
@@ -60,10 +59,8 @@ public abstract class PlayerController extends Activator {
      * @param trackInfo the track to play
      */
     public void startPlaying(TrackInfo trackInfo) {
-        Optional<Identification> ownIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(this);
-        Optional<Identification> playerIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(player);
+        Optional<Identification> ownIdentification = getIdentification();
+        Optional<Identification> playerIdentification = IdentificationProvider.getIdentificationOf(player);
         if (!ownIdentification.isPresent() || !playerIdentification.isPresent()) {
             error("unable to obtain identification");
             return;
@@ -78,10 +75,8 @@ public abstract class PlayerController extends Activator {
      * @param playlist the playlist to play
      */
     public void startPlaying(Playlist playlist) {
-        Optional<Identification> ownIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(this);
-        Optional<Identification> playerIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(player);
+        Optional<Identification> ownIdentification = getIdentification();
+        Optional<Identification> playerIdentification = IdentificationProvider.getIdentificationOf(player);
         if (!ownIdentification.isPresent() || !playerIdentification.isPresent()) {
             error("unable to obtain identification");
             return;
@@ -95,10 +90,8 @@ public abstract class PlayerController extends Activator {
      * stops the playing of the music
      */
     public void stopPlaying() {
-        Optional<Identification> ownIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(this);
-        Optional<Identification> playerIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(player);
+        Optional<Identification> ownIdentification = getIdentification();
+        Optional<Identification> playerIdentification = IdentificationProvider.getIdentificationOf(player);
         if (!ownIdentification.isPresent()|| !playerIdentification.isPresent()) {
             error("unable to obtain id");
             return;
@@ -116,10 +109,8 @@ public abstract class PlayerController extends Activator {
      * @param volume the volume, or null if not needed
      */
     public void command(String command, Playlist playlist, Progress progress, TrackInfo trackInfo, Volume volume) {
-        Optional<Identification> ownIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(this);
-        Optional<Identification> playerIdentification = IdentificationManagerM.getInstance()
-                .getIdentification(player);
+        Optional<Identification> ownIdentification = getIdentification();
+        Optional<Identification> playerIdentification = IdentificationProvider.getIdentificationOf(player);
         if (!ownIdentification.isPresent()|| !playerIdentification.isPresent()) {
             error("unable to obtain id");
             return;
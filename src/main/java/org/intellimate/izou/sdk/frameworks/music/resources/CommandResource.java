@@ -3,6 +3,7 @@ package org.intellimate.izou.sdk.frameworks.music.resources;
 import org.intellimate.izou.identification.Identification;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.frameworks.music.Command;
 import org.intellimate.izou.sdk.resource.Resource;
 
 import java.util.Optional;
@@ -69,14 +70,7 @@ public class CommandResource extends Resource<String> {
      * @return false if malformed
      */
     public static boolean verifyCommand(String command) {
-        return command.equals(PLAY) ||
-                command.equals(PAUSE) ||
-                command.equals(STOP) ||
-                command.equals(SELECT_TRACK) ||
-                command.equals(NEXT) ||
-                command.equals(PREVIOUS) ||
-                command.equals(CHANGE_PLAYBACK) ||
-                command.equals(CHANGE_VOLUME);
+        return Command.fromString(command) != null;
     }
 
     /**
@@ -86,18 +80,8 @@ public class CommandResource extends Resource<String> {
      * @return true if capable, false if not
      */
     public static boolean verifyCapabilities(String command, Capabilities capabilities) {
-        switch (command) {
-            case PLAY: return capabilities.hasPlayPauseControl();
-            case PAUSE: return capabilities.hasPlayPauseControl();
-            case SELECT_TRACK: return capabilities.isAbleToSelectTrack();
-            case NEXT: return capabilities.hasNextPrevious();
-            case PREVIOUS: return capabilities.hasNextPrevious();
-            case JUMP: return capabilities.isAbleToJump();
-            case CHANGE_PLAYBACK: return capabilities.isPlaybackChangeable();
-            case CHANGE_VOLUME: return capabilities.canChangeVolume();
-            case STOP: return true;
-        }
-        return false;
+        Command parsed = Command.fromString(command);
+        return parsed != null && parsed.isSupportedBy(capabilities);
     }
 
     /**
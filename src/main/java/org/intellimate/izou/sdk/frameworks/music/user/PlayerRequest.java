@@ -2,23 +2,25 @@ package org.intellimate.izou.sdk.frameworks.music.user;
 
 import org.intellimate.izou.identification.Identifiable;
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.frameworks.music.Capabilities;
+import org.intellimate.izou.sdk.frameworks.music.CapabilitiesCache;
 import org.intellimate.izou.sdk.frameworks.music.player.Playlist;
 import org.intellimate.izou.sdk.frameworks.music.player.TrackInfo;
 import org.intellimate.izou.sdk.frameworks.music.player.Volume;
 import org.intellimate.izou.sdk.frameworks.music.resources.*;
 import org.intellimate.izou.sdk.util.AddOnModule;
+import org.intellimate.izou.sdk.util.IdentificationProvider;
+import org.intellimate.izou.sdk.util.Loggable;
+import org.intellimate.izou.sdk.util.ThreadPoolUser;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * this is a simple class which should, added as a resource to an Event, request the Player to play the selected
@@ -45,6 +47,10 @@ import java.util.concurrent.TimeoutException;
  * @version 1.0
  */
 public class PlayerRequest {
+    /**
+     * how long the async methods wait for the answer of the player in milliseconds
+     */
+    static final int TIMEOUT = 1000;
     private final TrackInfo trackInfo;
     private final Playlist playlist;
     private final boolean permanent;
@@ -136,21 +142,21 @@ public class PlayerRequest {
     @SuppressWarnings("unused")
     public List<ResourceModel> resourcesForExisting() {
         List<ResourceModel> resourceModels = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(identifiable)
+        IdentificationProvider.getIdentificationOf(identifiable)
                 .map(id -> new MusicUsageResource(id, true))
                 .ifPresent(resourceModels::add);
         if (volume != null) {
-            IdentificationManagerM.getInstance().getIdentification(identifiable)
+            IdentificationProvider.getIdentificationOf(identifiable)
                     .map(id -> new VolumeResource(id, volume))
                     .ifPresent(resourceModels::add);
         }
         if (playlist != null) {
-            IdentificationManagerM.getInstance().getIdentification(identifiable)
+            IdentificationProvider.getIdentificationOf(identifiable)
                     .map(id -> new PlaylistResource(id, playlist))
                     .ifPresent(resourceModels::add);
         }
         if (trackInfo != null) {
-            IdentificationManagerM.getInstance().getIdentification(identifiable)
+            IdentificationProvider.getIdentificationOf(identifiable)
                     .map(id -> new TrackInfoResource(id, trackInfo))
                     .ifPresent(resourceModels::add);
         }
@@ -171,6 +177,78 @@ public class PlayerRequest {
         return  new PlayerRequest(null, playlist, permanent, player, capabilities, context, identifiable);
     }
 
+    /**
+     * asks the player for its Capabilities (or the CapabilitiesCache)
+     * @param player the player
+     * @param context the context
+     * @return a future completed with the optional Capabilities
+     */
+    static CompletableFuture<Optional<Capabilities>> getCapabilities(Identification player, Context context) {
+        return CapabilitiesCache.getCapabilities(player, context);
+    }
+
+    /**
+     * completes the returned future with an empty Optional if the future does not complete within the timeout or
+     * completes exceptionally (see {@link ThreadPoolUser#timeOut(CompletableFuture, int)})
+     * @param future the future to wait for
+     * @param context the context
+     * @param error the error to log if the future did not complete in time
+     * @param <T> the type of the result
+     * @return a new CompletableFuture, never completed exceptionally
+     */
+    static <T> CompletableFuture<Optional<T>> timeOut(CompletableFuture<Optional<T>> future, Context context,
+                                                      String error) {
+        CompletableFuture<Optional<T>> timedOut;
+        try {
+            timedOut = new ContextThreadPoolUser(context).timeOut(future, TIMEOUT);
+        } catch (RejectedExecutionException e) {
+            context.getLogger().error("unable to schedule timeout", e);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return timedOut.handle((optional, throwable) -> {
+            if (throwable != null) {
+                context.getLogger().error(error, throwable);
+                return Optional.empty();
+            }
+            return optional;
+        });
+    }
+
+    /**
+     * waits for the future for at most the timeout
+     * @param future the future to wait for
+     * @param context the context
+     * @param error the error to log if the future did not complete in time
+     * @param <T> the type of the result
+     * @return the result or an empty Optional if the future did not complete in time or failed
+     */
+    static <T> Optional<T> get(CompletableFuture<Optional<T>> future, Context context, String error) {
+        try {
+            return future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            context.getLogger().error(error, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * asks the player for its capabilities and creates the PlayerRequest if the capabilities match
+     * @param player the player
+     * @param source the addOnModule used for Context etc.
+     * @param filter returns true if the capabilities match
+     * @param create creates the PlayerRequest
+     * @return a future, which gets completed within one second and never exceptionally
+     */
+    private static CompletableFuture<Optional<PlayerRequest>> createPlayerRequestAsync(Identification player,
+                                                        AddOnModule source, Predicate<Capabilities> filter,
+                                                        Function<Capabilities, PlayerRequest> create) {
+        return timeOut(getCapabilities(player, source.getContext())
+                .thenApply(capabilities -> capabilities
+                        .filter(filter)
+                        .map(create)),
+                source.getContext(), "unable to obtain capabilities");
+    }
+
     /**
      * creates a new PlayerRequest.
      * <p>
@@ -179,6 +257,8 @@ public class PlayerRequest {
      *  <li>the player must exist and be support the standard defined through the sdk</li>
      *  <li>the players-capabilities must allow requests from outside</li>
      * </ul>
+     * This method may block for 1 second, use {@link #createPlayerRequestAsync(boolean, Identification, AddOnModule)}
+     * to not block.
      * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
      *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
      * @param player the player to target
@@ -187,29 +267,38 @@ public class PlayerRequest {
      */
     @SuppressWarnings("unused")
     public static Optional<PlayerRequest> createPlayerRequest(boolean permanent, Identification player, AddOnModule source) {
+        return get(createPlayerRequestAsync(permanent, player, source), source.getContext(),
+                "unable to obtain capabilities");
+    }
+
+    /**
+     * creates a new PlayerRequest without blocking.
+     * <p>
+     * For the future to complete with a non-empty Optional the following criteria must be met:<br>
+     * <ul>
+     *  <li>the player must exist and be support the standard defined through the sdk</li>
+     *  <li>the players-capabilities must allow requests from outside</li>
+     * </ul>
+     * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
+     *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
+     * @param player the player to target
+     * @param source the addOnModule used for Context etc.
+     * @return a future completed with the optional PlayerRequest within one second, never completed exceptionally
+     */
+    @SuppressWarnings("unused")
+    public static CompletableFuture<Optional<PlayerRequest>> createPlayerRequestAsync(boolean permanent,
+                                                                    Identification player, AddOnModule source) {
         if (player == null || source == null)
-            return Optional.empty();
-        try {
-            return source.getContext().getResources()
-                    .generateResource(new CapabilitiesResource(player))
-                    .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                    .thenApply(list -> list.stream()
-                                    .filter(resourceModel -> resourceModel.getProvider().equals(player))
-                                    .findAny()
-                                    .flatMap(resource -> Capabilities.importFromResource(resource, source.getContext()))
-                    ).get(1, TimeUnit.SECONDS)
-                    .filter(capabilities -> {
-                        if (!capabilities.handlesPlayRequestFromOutside()) {
-                            source.getContext().getLogger().error("player does not handle play-request from outside");
-                            return false;
-                        }
-                        return true;
-                    })
-                    .map(capabilities -> new PlayerRequest(null, null, permanent, player, capabilities, source.getContext(), source));
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            source.getContext().getLogger().error("unable to obtain capabilities");
-            return Optional.empty();
-        }
+            return CompletableFuture.completedFuture(Optional.empty());
+        return createPlayerRequestAsync(player, source,
+                capabilities -> {
+                    if (!capabilities.handlesPlayRequestFromOutside()) {
+                        source.getContext().getLogger().error("player does not handle play-request from outside");
+                        return false;
+                    }
+                    return true;
+                },
+                capabilities -> new PlayerRequest(null, null, permanent, player, capabilities, source.getContext(), source));
     }
 
     /**
@@ -223,6 +312,7 @@ public class PlayerRequest {
      *  <li>the players-capabilities must allow requests from outside</li>
      *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
      * </ul>
+     * This method may block for 1 second.
      * @param trackInfo the trackInfo to pass with the request
      * @param player the player to target
      * @param source the addOnModule used for Context etc.
@@ -242,6 +332,8 @@ public class PlayerRequest {
      *  <li>the players-capabilities must allow requests from outside</li>
      *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
      * </ul>
+     * This method may block for 1 second, use
+     * {@link #createPlayerRequestAsync(TrackInfo, boolean, Identification, AddOnModule)} to not block.
      * @param trackInfo the trackInfo to pass with the request
      * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
      *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
@@ -251,33 +343,44 @@ public class PlayerRequest {
      */
     @SuppressWarnings("unused")
     public static Optional<PlayerRequest> createPlayerRequest(TrackInfo trackInfo, boolean permanent, Identification player, AddOnModule source) {
+        return get(createPlayerRequestAsync(trackInfo, permanent, player, source), source.getContext(),
+                "unable to obtain capabilities");
+    }
+
+    /**
+     * creates a new PlayerRequest without blocking.
+     * <p>
+     * For the future to complete with a non-empty Optional the following criteria must be met:<br>
+     * <ul>
+     *  <li>the player must exist and be support the standard defined through the sdk</li>
+     *  <li>the players-capabilities must allow requests from outside</li>
+     *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
+     * </ul>
+     * @param trackInfo the trackInfo to pass with the request
+     * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
+     *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
+     * @param player the player to target
+     * @param source the addOnModule used for Context etc.
+     * @return a future completed with the optional PlayerRequest within one second, never completed exceptionally
+     */
+    @SuppressWarnings("unused")
+    public static CompletableFuture<Optional<PlayerRequest>> createPlayerRequestAsync(TrackInfo trackInfo, boolean permanent,
+                                                                    Identification player, AddOnModule source) {
         if (trackInfo == null ||player == null || source == null)
-            return Optional.empty();
-        try {
-            return source.getContext().getResources()
-                    .generateResource(new CapabilitiesResource(player))
-                    .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                    .thenApply(list -> list.stream()
-                                    .filter(resourceModel -> resourceModel.getProvider().equals(player))
-                                    .findAny()
-                                    .flatMap(resource -> Capabilities.importFromResource(resource, source.getContext()))
-                    ).get(1, TimeUnit.SECONDS)
-                    .filter(capabilities -> {
-                        if (!capabilities.handlesPlayRequestFromOutside()) {
-                            source.getContext().getLogger().error("player does not handle play-request from outside");
-                            return false;
-                        }
-                        if (!capabilities.hasPlayRequestDetailed()) {
-                            source.getContext().getLogger().error("player does not handle trackInfo-request from outside");
-                            return false;
-                        }
-                        return true;
-                    })
-                    .map(capabilities -> new PlayerRequest(trackInfo, null, permanent, player, capabilities, source.getContext(), source));
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            source.getContext().getLogger().error("unable to obtain capabilities");
-            return Optional.empty();
-        }
+            return CompletableFuture.completedFuture(Optional.empty());
+        return createPlayerRequestAsync(player, source,
+                capabilities -> {
+                    if (!capabilities.handlesPlayRequestFromOutside()) {
+                        source.getContext().getLogger().error("player does not handle play-request from outside");
+                        return false;
+                    }
+                    if (!capabilities.hasPlayRequestDetailed()) {
+                        source.getContext().getLogger().error("player does not handle trackInfo-request from outside");
+                        return false;
+                    }
+                    return true;
+                },
+                capabilities -> new PlayerRequest(trackInfo, null, permanent, player, capabilities, source.getContext(), source));
     }
 
     /**
@@ -291,6 +394,7 @@ public class PlayerRequest {
      *  <li>the players-capabilities must allow requests from outside</li>
      *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
      * </ul>
+     * This method may block for 1 second.
      * @param playlist the playlist to pass with the request
      * @param player the player to target
      * @param source the addOnModule used for Context etc.
@@ -310,6 +414,8 @@ public class PlayerRequest {
      *  <li>the players-capabilities must allow requests from outside</li>
      *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
      * </ul>
+     * This method may block for 1 second, use
+     * {@link #createPlayerRequestAsync(Playlist, boolean, Identification, AddOnModule)} to not block.
      * @param playlist the playlist to pass with the request
      * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
      *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
@@ -319,36 +425,63 @@ public class PlayerRequest {
      */
     @SuppressWarnings("unused")
     public static Optional<PlayerRequest> createPlayerRequest(Playlist playlist, boolean permanent, Identification player, AddOnModule source) {
+        return get(createPlayerRequestAsync(playlist, permanent, player, source), source.getContext(),
+                "unable to obtain capabilities");
+    }
+
+    /**
+     * creates a new PlayerRequest without blocking.
+     * <p>
+     * For the future to complete with a non-empty Optional the following criteria must be met:<br>
+     * <ul>
+     *  <li>the player must exist and be support the standard defined through the sdk</li>
+     *  <li>the players-capabilities must allow requests from outside</li>
+     *  <li>the players-capabilities must allow a requests with specified a specified playlist/trackInfo</li>
+     * </ul>
+     * @param playlist the playlist to pass with the request
+     * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
+     *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
+     * @param player the player to target
+     * @param source the addOnModule used for Context etc.
+     * @return a future completed with the optional PlayerRequest within one second, never completed exceptionally
+     */
+    @SuppressWarnings("unused")
+    public static CompletableFuture<Optional<PlayerRequest>> createPlayerRequestAsync(Playlist playlist, boolean permanent,
+                                                                    Identification player, AddOnModule source) {
         if (playlist == null ||player == null || source == null)
-            return Optional.empty();
-        try {
-            return source.getContext().getResources()
-                    .generateResource(new CapabilitiesResource(player))
-                    .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                    .thenApply(list -> list.stream()
-                                    .filter(resourceModel -> resourceModel.getProvider().equals(player))
-                                    .findAny()
-                                    .flatMap(resource -> Capabilities.importFromResource(resource, source.getContext()))
-                    ).get(1, TimeUnit.SECONDS)
-                    .filter(capabilities -> {
-                        if (!capabilities.handlesPlayRequestFromOutside()) {
-                            source.getContext().getLogger().error("player does not handle play-request from outside");
-                            return false;
-                        }
-                        if (!capabilities.hasPlayRequestDetailed()) {
-                            source.getContext().getLogger().error("player does not handle playlist-request from outside");
-                            return false;
-                        }
-                        if (!playlist.verify(capabilities)) {
-                            source.getContext().getLogger().error("player can not handle the playlist, probably illegal PlaybackModes");
-                            return false;
-                        }
-                        return true;
-                    })
-                    .map(capabilities -> new PlayerRequest(null, playlist, permanent, player, capabilities, source.getContext(), source));
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            source.getContext().getLogger().debug("unable to obtain capabilities");
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
+        return createPlayerRequestAsync(player, source,
+                capabilities -> {
+                    if (!capabilities.handlesPlayRequestFromOutside()) {
+                        source.getContext().getLogger().error("player does not handle play-request from outside");
+                        return false;
+                    }
+                    if (!capabilities.hasPlayRequestDetailed()) {
+                        source.getContext().getLogger().error("player does not handle playlist-request from outside");
+                        return false;
+                    }
+                    if (!playlist.verify(capabilities)) {
+                        source.getContext().getLogger().error("player can not handle the playlist, probably illegal PlaybackModes");
+                        return false;
+                    }
+                    return true;
+                },
+                capabilities -> new PlayerRequest(null, playlist, permanent, player, capabilities, source.getContext(), source));
+    }
+
+    /**
+     * provides the helper-methods of the ThreadPoolUser for the Context
+     */
+    private static final class ContextThreadPoolUser implements ThreadPoolUser, Loggable {
+        private final Context context;
+
+        private ContextThreadPoolUser(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public Context getContext() {
+            return context;
         }
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,6 @@ package org.intellimate.izou.sdk.frameworks.music.user;
 
 import org.intellimate.izou.identification.Identifiable;
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.*;
 import org.intellimate.izou.sdk.frameworks.music.*;
 import org.intellimate.izou.sdk.frameworks.music.player.*;
@@ -13,9 +12,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 /**
@@ -92,23 +88,29 @@ public class PlaylistSelector {
     /**
      * asks the Player for more information about the playlist.
      * <p>
-     * This method may block for 1 second.
+     * This method may block for 1 second, use {@link #getPlaylistAsync(String)} to not block.
      * @param playlistName the name of the playlist
      * @return an optional answer of the player
      */
     public Optional<Playlist> getPlaylist(String playlistName) {
-        try {
-            return context.getResources().generateResource(BroadcasterPlaylist.createPlaylistRequest(player, playlistName))
-                    .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                    .thenApply(list -> list.stream()
-                            .filter(resourceModel -> resourceModel.getProvider().equals(player))
-                            .findAny()
-                            .flatMap(Playlist::importResource)
-                    ).get(1, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            context.getLogger().error("unable to get Playlist");
-            return Optional.empty();
-        }
+        return PlayerRequest.get(getPlaylistAsync(playlistName), context, "unable to get Playlist");
+    }
+
+    /**
+     * asks the Player for more information about the playlist without blocking.
+     * @param playlistName the name of the playlist
+     * @return a future completed with the optional answer of the player within one second, never completed
+     *         exceptionally
+     */
+    public CompletableFuture<Optional<Playlist>> getPlaylistAsync(String playlistName) {
+        return PlayerRequest.timeOut(context.getResources()
+                .generateResource(BroadcasterPlaylist.createPlaylistRequest(player, playlistName))
+                .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
+                .thenApply(list -> list.stream()
+                        .filter(resourceModel -> resourceModel.getProvider().equals(player))
+                        .findAny()
+                        .flatMap(Playlist::importResource)
+                ), context, "unable to get Playlist");
     }
 
     /**
@@ -131,8 +133,22 @@ public class PlaylistSelector {
      * @return the optional PlayerRequest
      */
     public Optional<PlayerRequest> getPlayerRequest(String playlistName, boolean permanent) {
-        return getPlaylist(playlistName)
-                .map(playlist -> PlayerRequest.createPlayerRequest(playlist, permanent, player, capabilities, context, identifiable));
+        return PlayerRequest.get(getPlayerRequestAsync(playlistName, permanent), context,
+                "unable to get Playlist");
+    }
+
+    /**
+     * asks the player for more information about the specified playlist and creates a PlayerRequest with the answer
+     * without blocking.
+     * @param playlistName the name of the Playlist
+     * @param permanent true means the player can play indefinitely, but only if no one is currently using audio as
+     *                  permanent. It will also not block. false is limited to 10 minutes playback, but will block.
+     * @return a future completed with the optional PlayerRequest within one second, never completed exceptionally
+     */
+    public CompletableFuture<Optional<PlayerRequest>> getPlayerRequestAsync(String playlistName, boolean permanent) {
+        return getPlaylistAsync(playlistName)
+                .thenApply(optional -> optional.map(playlist ->
+                        PlayerRequest.createPlayerRequest(playlist, permanent, player, capabilities, context, identifiable)));
     }
 
     /**
@@ -145,14 +161,39 @@ public class PlaylistSelector {
      *  <li>the players-capabilities must allow a requests with specified a specified playlist</li>
      *  <li>the players-capabilities signal its broadcasting playlists</li>
      * </ul>
+     * This method may block for 1 second, use {@link #getPlaylistsFromPlayerAsync(Identification, AddOnModule)} to
+     * not block.
      * @param player the specified player
      * @param addOnModule the addOnModule used for Context etc.
      * @return the optional PlaylistSelector.
      */
     @SuppressWarnings("unused")
     public static Optional<PlaylistSelector> getPlaylistsFromPlayer(Identification player, AddOnModule addOnModule) {
-        if (player == null || addOnModule == null)
+        if (addOnModule == null)
             return Optional.empty();
+        return PlayerRequest.get(getPlaylistsFromPlayerAsync(player, addOnModule), addOnModule.getContext(),
+                "unable to get PlaylistSelector");
+    }
+
+    /**
+     * creates a new PlaylistSelector without blocking.
+     * <p>
+     * For the future to complete with a non-empty Optional the following criteria must be met:<br>
+     * <ul>
+     *  <li>the player must exist</li>
+     *  <li>the players-capabilities must allow requests from outside</li>
+     *  <li>the players-capabilities must allow a requests with specified a specified playlist</li>
+     *  <li>the players-capabilities signal its broadcasting playlists</li>
+     * </ul>
+     * @param player the specified player
+     * @param addOnModule the addOnModule used for Context etc.
+     * @return a future completed with the optional PlaylistSelector within one second, never completed exceptionally
+     */
+    @SuppressWarnings("unused")
+    public static CompletableFuture<Optional<PlaylistSelector>> getPlaylistsFromPlayerAsync(Identification player,
+                                                                                            AddOnModule addOnModule) {
+        if (player == null || addOnModule == null)
+            return CompletableFuture.completedFuture(Optional.empty());
         Function<Capabilities, CompletableFuture<Optional<PlaylistSelector>>> getPlaylistSelector = capabilities ->
                 addOnModule.getContext().getResources()
                 .generateResource(new BroadcasterAvailablePlaylists(player))
@@ -166,10 +207,7 @@ public class PlaylistSelector {
                 );
 
 
-        Function<List<ResourceModel>, Optional<Capabilities>> getCapabilities = resourceModels -> resourceModels.stream()
-                .filter(resourceModel -> resourceModel.getProvider().equals(player))
-                .findAny()
-                .flatMap(resource -> Capabilities.importFromResource(resource, addOnModule.getContext()))
+        Function<Optional<Capabilities>, Optional<Capabilities>> checkCapabilities = optional -> optional
                 .filter(capabilities -> {
                     if (!capabilities.handlesPlayRequestFromOutside()) {
                         addOnModule.getContext().getLogger().error("player does not handle play-request from outside");
@@ -186,17 +224,10 @@ public class PlaylistSelector {
                     return true;
                 });
 
-        try {
-            return addOnModule.getContext().getResources()
-                    .generateResource(new CapabilitiesResource(player))
-                    .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                    .thenApply(getCapabilities::apply)
-                    .thenCompose(capabilities -> capabilities.map(getPlaylistSelector::apply)
-                            .orElseGet(() -> CompletableFuture.completedFuture(Optional.<PlaylistSelector>empty()))
-                    ).get(1, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            addOnModule.getContext().getLogger().error("unable to get PlaylistSelector");
-            return Optional.empty();
-        }
+        return PlayerRequest.timeOut(PlayerRequest.getCapabilities(player, addOnModule.getContext())
+                .thenApply(checkCapabilities)
+                .thenCompose(capabilities -> capabilities.map(getPlaylistSelector)
+                        .orElseGet(() -> CompletableFuture.completedFuture(Optional.<PlaylistSelector>empty()))
+                ), addOnModule.getContext(), "unable to get PlaylistSelector");
     }
 }
@@ -1,7 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.permanentSoundOutput.output;
 
 import org.intellimate.izou.identification.Identifiable;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.events.EndedEvent;
 import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.events.StartEvent;
 import org.intellimate.izou.sdk.util.ContextProvider;
@@ -21,7 +20,7 @@ public interface PermanentSoundHelper extends Identifiable, FireEvent, ContextPr
      * @param isUsingJava true if using java, false if not (and for example a C-library)
      */
     default void startedSound(boolean isUsingJava) {
-        Optional<StartEvent> startEvent = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<StartEvent> startEvent = getIdentification()
                 .flatMap(id -> StartEvent.createStartEvent(id, isUsingJava));
         if (!startEvent.isPresent()) {
             getContext().getLogger().error("unable to fire startEvent");
@@ -34,7 +33,7 @@ public interface PermanentSoundHelper extends Identifiable, FireEvent, ContextPr
      * fires an EndedEvent
      */
     default void endedSound() {
-        Optional<EndedEvent> ended = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<EndedEvent> ended = getIdentification()
                 .flatMap(EndedEvent::createEndedEvent);
         if (!ended.isPresent()) {
             getContext().getLogger().error("unable to fire ended");
@@ -1,8 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.permanentSoundOutput.output;
 
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManager;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.frameworks.common.resources.ResourcesProviderBase;
 import org.intellimate.izou.sdk.frameworks.permanentSoundOutput.resource.UsingSoundResource;
@@ -22,7 +20,7 @@ public interface PermanentSoundResources extends ResourcesProviderBase, Permanen
     @Override
     default List<? extends ResourceModel> announceResources() {
         List<ResourceModel> resources = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(this)
+        getIdentification()
                 .map(UsingSoundResource::new)
                 .ifPresent(resources::add);
         return resources;
@@ -57,8 +55,7 @@ public interface PermanentSoundResources extends ResourcesProviderBase, Permanen
      * @return a list with (when no error happens) one resource
      */
     default Optional<UsingSoundResource> createUsingSoundResource() {
-        return IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        return getIdentification()
                 .map(UsingSoundResource::new);
     }
 }
@@ -0,0 +1,118 @@
+package org.intellimate.izou.sdk.frameworks.presence.consumer;
+
+import org.intellimate.izou.events.EventModel;
+import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.frameworks.presence.events.LeavingEvent;
+import org.intellimate.izou.sdk.frameworks.presence.events.PresenceEvent;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * a single listener per AddOn for the presence- and leaving-events, which completes the futures waiting for them.
+ * <p>
+ * The futures are kept in lock-free sets, one for every combination of the filters (strict, known, firstEncounter),
+ * so adding and removing them doesn't (un-)register anything at the core.
+ * </p>
+ * @version 1.0
+ */
+final class PresenceEventMultiplexer {
+    private static final int STRICT = 1;
+    private static final int KNOWN = 2;
+    private static final int FIRST_ENCOUNTER = 4;
+    private static final int LEAVING = 8;
+    @SuppressWarnings("unchecked")
+    private final Set<CompletableFuture<EventModel>>[] pending = new Set[LEAVING + 2];
+
+    private PresenceEventMultiplexer() {
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    /**
+     * returns the PresenceEventMultiplexer of the AddOn (held by the Context), registers it if not already done
+     * @param context the Context of the AddOn
+     * @return the PresenceEventMultiplexer
+     */
+    static PresenceEventMultiplexer getInstance(Context context) {
+        return context.getHelper(PresenceEventMultiplexer.class, key -> {
+            PresenceEventMultiplexer multiplexer = new PresenceEventMultiplexer();
+            key.getEvents().registerEventListener(Arrays.asList(PresenceEvent.ID, LeavingEvent.ID),
+                    multiplexer::eventFired);
+            return multiplexer;
+        });
+    }
+
+    /**
+     * returns a future which completes with the next matching presence-event
+     * @param strict whether it is very likely that the user is near
+     * @param known whether it is very likely that the person causing the event is the user
+     * @param firstEncounter whether any other than the first encounter after the user left should be ignored
+     * @return an instance of CompletableFuture
+     */
+    CompletableFuture<EventModel> nextPresence(boolean strict, boolean known, boolean firstEncounter) {
+        int filter = (strict ? STRICT : 0) | (known ? KNOWN : 0) | (firstEncounter ? FIRST_ENCOUNTER : 0);
+        return add(pending[filter]);
+    }
+
+    /**
+     * returns a future which completes with the next matching leaving-event
+     * @param strict whether it is very likely that the user was near
+     * @return an instance of CompletableFuture
+     */
+    CompletableFuture<EventModel> nextLeaving(boolean strict) {
+        return add(pending[LEAVING | (strict ? STRICT : 0)]);
+    }
+
+    /**
+     * adds a new future to the set, it gets removed when done
+     * @param set the set
+     * @return the future
+     */
+    private CompletableFuture<EventModel> add(Set<CompletableFuture<EventModel>> set) {
+        CompletableFuture<EventModel> future = new CompletableFuture<>();
+        set.add(future);
+        future.whenComplete((event, throwable) -> set.remove(future));
+        return future;
+    }
+
+    /**
+     * completes the futures waiting for the event
+     * @param event the fired event
+     */
+    private void eventFired(EventModel event) {
+        if (event.containsDescriptor(LeavingEvent.ID)) {
+            complete(pending[LEAVING], event);
+            if (event.containsDescriptor(LeavingEvent.STRICT_DESCRIPTOR))
+                complete(pending[LEAVING | STRICT], event);
+        } else if (event.containsDescriptor(PresenceEvent.ID)) {
+            int flags = (event.containsDescriptor(PresenceEvent.STRICT_DESCRIPTOR) ? STRICT : 0)
+                    | (event.containsDescriptor(PresenceEvent.KNOWN_DESCRIPTOR) ? KNOWN : 0)
+                    | (event.containsDescriptor(PresenceEvent.FIRST_ENCOUNTER_DESCRIPTOR) ? FIRST_ENCOUNTER : 0);
+            for (int filter = 0; filter < LEAVING; filter++) {
+                if ((filter & flags) == filter)
+                    complete(pending[filter], event);
+            }
+        }
+    }
+
+    /**
+     * completes all the futures of the set.
+     * <p>
+     * The futures are copied first, futures added by the dependent actions wait for the next event.
+     * </p>
+     * @param set the set
+     * @param event the fired event
+     */
+    @SuppressWarnings("unchecked")
+    private void complete(Set<CompletableFuture<EventModel>> set, EventModel event) {
+        if (set.isEmpty())
+            return;
+        for (Object future : set.toArray()) {
+            ((CompletableFuture<EventModel>) future).complete(event);
+        }
+    }
+}
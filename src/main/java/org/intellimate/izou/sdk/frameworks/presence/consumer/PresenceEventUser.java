@@ -81,22 +81,7 @@ public interface PresenceEventUser extends ContextProvider {
      */
     @SuppressWarnings("unused")
     default CompletableFuture<EventModel> nextPresence(boolean strict, boolean known, boolean firstEncounter) {
-        CompletableFuture<EventModel> completableFuture = new CompletableFuture<>();
-        EventListenerModel eventListenerModel = event -> {
-            if (strict && !event.containsDescriptor(PresenceEvent.STRICT_DESCRIPTOR)) {
-                return;
-            }
-            if (known && !event.containsDescriptor(PresenceEvent.KNOWN_DESCRIPTOR)) {
-                return;
-            }
-            if (firstEncounter && !event.containsDescriptor(PresenceEvent.FIRST_ENCOUNTER_DESCRIPTOR)) {
-                return;
-            }
-            completableFuture.complete(event);
-        };
-        getContext().getEvents().registerEventListener(Collections.singletonList(PresenceEvent.ID), eventListenerModel);
-        return completableFuture.whenComplete((event, throwable) ->
-                getContext().getEvents().unregisterEventListener(eventListenerModel));
+        return PresenceEventMultiplexer.getInstance(getContext()).nextPresence(strict, known, firstEncounter);
     }
 
     /**
@@ -127,15 +112,6 @@ public interface PresenceEventUser extends ContextProvider {
      */
     @SuppressWarnings("unused")
     default CompletableFuture<EventModel> nextLeaving(boolean strict) {
-        CompletableFuture<EventModel> completableFuture = new CompletableFuture<>();
-        EventListenerModel eventListenerModel = event -> {
-            if (strict && !event.containsDescriptor(LeavingEvent.STRICT_DESCRIPTOR)) {
-                return;
-            }
-            completableFuture.complete(event);
-        };
-        getContext().getEvents().registerEventListener(Collections.singletonList(LeavingEvent.ID), eventListenerModel);
-        return completableFuture.whenComplete((event, throwable) ->
-                getContext().getEvents().unregisterEventListener(eventListenerModel));
+        return PresenceEventMultiplexer.getInstance(getContext()).nextLeaving(strict);
     }
 }
@@ -1,6 +1,5 @@
 package org.intellimate.izou.sdk.frameworks.presence.provider;
 
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.frameworks.presence.events.LeavingEvent;
 import org.intellimate.izou.sdk.frameworks.presence.events.PresenceEvent;
 import org.intellimate.izou.sdk.util.FireEvent;
@@ -29,12 +28,12 @@ public interface PresenceHelper extends PresenceProvider, FireEvent {
      * @param known whether it is highly likely that the user cause the event and not a random person
      */
     default void firePresence(List<String> descriptors, boolean known) {
-        Optional<PresenceEvent> startEvent = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<PresenceEvent> startEvent = getIdentification()
                 .flatMap(id -> PresenceEvent.createPresenceEvent(id, isStrict(), known, isFirstEncountering(), descriptors));
         if (!startEvent.isPresent()) {
             getContext().getLogger().error("unable to fire startEvent");
         } else {
-            fire(startEvent.get(), 5);
+            fireAsyncInOrder(startEvent.get());
         }
     }
 
@@ -42,12 +41,12 @@ public interface PresenceHelper extends PresenceProvider, FireEvent {
      * fires the leaving-Event
      */
     default void fireLeaving() {
-        Optional<LeavingEvent> startEvent = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<LeavingEvent> startEvent = getIdentification()
                 .flatMap(id -> LeavingEvent.createLeavingEvent(id, isStrict(), new ArrayList<>()));
         if (!startEvent.isPresent()) {
             getContext().getLogger().error("unable to fire startEvent");
         } else {
-            fire(startEvent.get(), 5);
+            fireAsyncInOrder(startEvent.get());
         }
     }
 }
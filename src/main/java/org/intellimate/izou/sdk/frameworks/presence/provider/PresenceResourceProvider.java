@@ -1,8 +1,6 @@
 package org.intellimate.izou.sdk.frameworks.presence.provider;
 
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManager;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.frameworks.common.resources.ResourcesProviderBase;
 import org.intellimate.izou.sdk.frameworks.presence.resources.PresenceResource;
@@ -20,7 +18,7 @@ public interface PresenceResourceProvider extends ResourcesProviderBase, Presenc
     @Override
     default List<? extends ResourceModel> announceResources() {
         List<ResourceModel> resources = new ArrayList<>();
-        IdentificationManagerM.getInstance().getIdentification(this)
+        getIdentification()
                 .ifPresent(id -> {
                     resources.add(new PresenceResource(id));
                 });
@@ -47,8 +45,7 @@ public interface PresenceResourceProvider extends ResourcesProviderBase, Presenc
      * @return the resource
      */
     default Optional<PresenceResource> createPresenceResource() {
-        return IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        return getIdentification()
                 .map(id -> new PresenceResource(id, new Presence(getLevel(), isPresent(), isStrict(), isKnown())));
     }
 }
@@ -3,15 +3,11 @@ package org.intellimate.izou.sdk.frameworks.presence.provider.template;
 import org.intellimate.izou.events.EventModel;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.events.EventsController;
-import org.intellimate.izou.sdk.frameworks.presence.provider.Presence;
 import org.intellimate.izou.sdk.frameworks.presence.provider.PresenceHelper;
 import org.intellimate.izou.sdk.frameworks.presence.provider.PresenceIndicatorLevel;
 import org.intellimate.izou.sdk.frameworks.presence.provider.PresenceResourceProvider;
-import org.intellimate.izou.sdk.frameworks.presence.resources.PresenceResource;
+import org.intellimate.izou.sdk.frameworks.presence.resources.PresenceAggregator;
 
-import java.util.ArrayList;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -160,14 +156,10 @@ public abstract class PresenceConstant extends EventsController implements Prese
      * updates the boolean whether it is the mode vague
      */
     private void updateVague() {
-        generateResource(PresenceResource.ID)
-            .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-            .thenAccept(list -> mostVague.set(list.stream()
-                            .map(Presence::importPresence)
-                            .filter(Optional::isPresent)
-                            .map(Optional::get)
-                            .map(Presence::getLevel)
-                            .noneMatch(level -> level.compareTo(getLevel()) > 0))
+        getPresenceAggregator().getMostVagueLevel(PresenceAggregator.DEFAULT_MAX_AGE)
+            .thenAccept(mostVagueLevel -> mostVague.set(mostVagueLevel
+                            .map(level -> level.compareTo(getLevel()) <= 0)
+                            .orElse(true))
             );
     }
 }
@@ -3,7 +3,6 @@ package org.intellimate.izou.sdk.frameworks.presence.provider.template;
 import org.intellimate.izou.events.EventLifeCycle;
 import org.intellimate.izou.events.EventListenerModel;
 import org.intellimate.izou.events.EventModel;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.Context;
 import org.intellimate.izou.sdk.activator.Activator;
 import org.intellimate.izou.sdk.events.CommonEvents;
@@ -12,6 +11,7 @@ import org.intellimate.izou.sdk.frameworks.presence.events.LeavingEvent;
 import org.intellimate.izou.sdk.frameworks.presence.events.PresenceEvent;
 import org.intellimate.izou.sdk.frameworks.presence.resources.PresenceResourceHelper;
 import org.intellimate.izou.sdk.util.ResourceUser;
+import org.intellimate.izou.sdk.util.ThreadPoolUser;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -19,9 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * the base class for all presence-things that have no CONSTANT information (for example a motion-sensor).
@@ -30,8 +28,14 @@ import java.util.concurrent.TimeoutException;
  * @author LeanderK
  * @version 1.0
  */
-public abstract class PresenceNonConstant extends Activator implements PresenceResourceHelper, EventListenerModel, ResourceUser {
-    private boolean present;
+public abstract class PresenceNonConstant extends Activator implements PresenceResourceHelper, EventListenerModel,
+                                                                        ResourceUser, ThreadPoolUser {
+    /**
+     * the time to wait for the other presence-providers when resolving the initial presence
+     */
+    private static final int INITIAL_PRESENCE_TIMEOUT = 1000;
+    //null as long as the initial presence is not resolved
+    private final AtomicReference<Boolean> present = new AtomicReference<>(null);
     private boolean strictPresent = false;
     private LocalDateTime lastSeen = LocalDateTime.now();
     private final boolean strict;
@@ -51,12 +55,21 @@ public abstract class PresenceNonConstant extends Activator implements PresenceR
         this.strict = strict;
         this.fireUnknownIfNotPresent = fireUnknownIfNotPresent;
         getContext().getEvents().registerEventListener(Arrays.asList(LeavingEvent.ID, PresenceEvent.ID), this);
-        try {
-            present = getIsPresent(false, true)
-                    .get(1, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            present = true;
-        }
+        timeOut(getIsPresent(false, true), INITIAL_PRESENCE_TIMEOUT)
+                .whenComplete((isPresent, throwable) -> present.compareAndSet(null, throwable != null || isPresent));
+    }
+
+    /**
+     * returns whether the user is present.
+     * <p>
+     * The initial presence gets resolved asynchronously, as long as it is unknown (or if it timed out) the user is
+     * assumed to be present.
+     * </p>
+     * @return true if present
+     */
+    private boolean isPresent() {
+        Boolean present = this.present.get();
+        return present == null || present;
     }
 
     /**
@@ -80,24 +93,24 @@ public abstract class PresenceNonConstant extends Activator implements PresenceR
             }
         }*/
         descriptors.add(CommonEvents.Descriptors.NOT_INTERRUPT);
+        boolean present = isPresent();
         boolean known = !fireUnknownIfNotPresent || present;
         boolean firstPresent = (!strict && !present) || (strict && !strictPresent);
         long lastSeen = this.lastSeen.until(LocalDateTime.now(), ChronoUnit.SECONDS);
-        Optional<Event> presenceEvent = IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        Optional<Event> presenceEvent = getIdentification()
                 .flatMap(id -> PresenceEvent.createPresenceEvent(id, strict, known, firstPresent, descriptors, lastSeen))
                 .map(event -> event.addEventLifeCycleListener(EventLifeCycle.APPROVED, lifeCycle -> {
                     if (known) {
                         this.lastSeen = LocalDateTime.now();
                         if (strict)
                             this.strictPresent = true;
-                        present = true;
+                        this.present.set(true);
                     }
                 }));
         if (!presenceEvent.isPresent()) {
             error("unable to create PresenceEvent");
         } else {
-            fire(presenceEvent.get(), 5);
+            fireAsyncInOrder(presenceEvent.get());
         }
     }
 
@@ -112,17 +125,17 @@ public abstract class PresenceNonConstant extends Activator implements PresenceR
         if (event.containsDescriptor(LeavingEvent.ID) || event.containsDescriptor(PresenceEvent.ID)) {
             if (event.containsDescriptor(LeavingEvent.ID)) {
                 if (event.containsDescriptor(LeavingEvent.GENERAL_DESCRIPTOR)) {
-                    present = false;
+                    present.set(false);
                     strictPresent = false;
                 } else if (event.containsDescriptor(LeavingEvent.STRICT_DESCRIPTOR)) {
                     nonStrictAvailable().thenAccept(available -> {
                         if (!available)
-                            present = false;
+                            present.set(false);
                         strictPresent = false;
                     });
                 }
             } else {
-                present = true;
+                present.set(true);
                 if (event.containsDescriptor(PresenceEvent.STRICT_DESCRIPTOR))
                     strictPresent = true;
             }
@@ -0,0 +1,234 @@
+package org.intellimate.izou.sdk.frameworks.presence.resources;
+
+import org.intellimate.izou.events.EventModel;
+import org.intellimate.izou.identification.Identification;
+import org.intellimate.izou.identification.IllegalIDException;
+import org.intellimate.izou.resource.ResourceModel;
+import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.frameworks.presence.events.LeavingEvent;
+import org.intellimate.izou.sdk.frameworks.presence.events.PresenceEvent;
+import org.intellimate.izou.sdk.frameworks.presence.provider.Presence;
+import org.intellimate.izou.sdk.frameworks.presence.provider.PresenceIndicatorLevel;
+import org.intellimate.izou.sdk.util.IdentificationProvider;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * holds the current Presence of all the presence-providers for the AddOn, so that the PresenceResource doesn't have
+ * to be generated for every query.
+ * <p>
+ * The Presences are obtained by generating the PresenceResource and afterwards kept up to date by listening to the
+ * PresenceEvents and LeavingEvents of the providers. Every query specifies how old the generated Presences may be,
+ * if they are older (or new providers may have appeared) they get generated again. Concurrent queries share the same
+ * generation. Sources which fire events but don't provide the PresenceResource (like the PresenceNonConstant
+ * template) are remembered after one generation and then don't cause further generations. Failed generations are
+ * not cached.
+ * </p>
+ * @version 1.0
+ */
+public final class PresenceAggregator {
+    /**
+     * the default maximum age of the generated Presences in milliseconds
+     */
+    public static final long DEFAULT_MAX_AGE = 30000;
+    private final Context context;
+    private volatile Snapshot snapshot = null;
+    private CompletableFuture<Snapshot> generating = null;
+    private long changes = 0;
+    /**
+     * the unknown sources which fired events since the last generation
+     */
+    private final Set<Identification> unknownSources = new HashSet<>();
+    /**
+     * the sources which fired events but didn't provide the PresenceResource
+     */
+    private final Set<Identification> nonProviders = new HashSet<>();
+
+    private PresenceAggregator(Context context) {
+        this.context = context;
+    }
+
+    /**
+     * returns the PresenceAggregator of the AddOn, it is held by the Context
+     * @param context the Context of the AddOn
+     * @return the PresenceAggregator
+     */
+    public static PresenceAggregator getInstance(Context context) {
+        return context.getHelper(PresenceAggregator.class, key -> {
+            PresenceAggregator aggregator = new PresenceAggregator(key);
+            key.getEvents().registerEventListener(Arrays.asList(PresenceEvent.ID, LeavingEvent.ID),
+                    aggregator::eventFired);
+            return aggregator;
+        });
+    }
+
+    /**
+     * returns the Presences of all the providers
+     * @param maxAge the maximum age of the generated Presences in milliseconds
+     * @return a future of the unmodifiable Map of the providers and their Presence
+     */
+    public CompletableFuture<Map<Identification, Presence>> getPresences(long maxAge) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot != null && maxAge > 0 && System.currentTimeMillis() - snapshot.time <= maxAge)
+            return CompletableFuture.completedFuture(snapshot.presences);
+        return generate().thenApply(generated -> generated.presences);
+    }
+
+    /**
+     * returns true if present, else false.
+     * @param strict true if only providers where it is highly likely that the user is around should be used
+     * @param ifNotPresent the default value if no (matching) providers were found
+     * @param maxAge the maximum age of the generated Presences in milliseconds
+     * @return a future true if present, false if not
+     */
+    public CompletableFuture<Boolean> isPresent(boolean strict, boolean ifNotPresent, long maxAge) {
+        return getPresences(maxAge).thenApply(presences -> {
+            boolean found = false;
+            for (Presence presence : presences.values()) {
+                if (!presence.isKnown() || (strict && !presence.isStrict()))
+                    continue;
+                if (presence.isPresent())
+                    return true;
+                found = true;
+            }
+            return found ? false : ifNotPresent;
+        });
+    }
+
+    /**
+     * returns true if no strict provider is available
+     * @param maxAge the maximum age of the generated Presences in milliseconds
+     * @return a future true if no strict provider is available
+     */
+    public CompletableFuture<Boolean> nonStrictAvailable(long maxAge) {
+        return getPresences(maxAge).thenApply(presences -> presences.values().stream()
+                .noneMatch(Presence::isStrict));
+    }
+
+    /**
+     * returns the most vague PresenceIndicatorLevel of all the providers
+     * @param maxAge the maximum age of the generated Presences in milliseconds
+     * @return a future of the optional level, empty if no providers were found
+     */
+    public CompletableFuture<Optional<PresenceIndicatorLevel>> getMostVagueLevel(long maxAge) {
+        return getPresences(maxAge).thenApply(presences -> presences.values().stream()
+                .map(Presence::getLevel)
+                .max(Comparator.naturalOrder()));
+    }
+
+    /**
+     * discards the Presences, the next query will generate them again
+     */
+    public synchronized void invalidate() {
+        changes++;
+        snapshot = null;
+    }
+
+    /**
+     * generates the PresenceResource, or returns the already running generation
+     * @return a future of the new Snapshot
+     */
+    private synchronized CompletableFuture<Snapshot> generate() {
+        if (generating != null)
+            return generating;
+        long changes = this.changes;
+        Set<Identification> checkedSources = new HashSet<>(unknownSources);
+        Optional<CompletableFuture<List<ResourceModel>>> resources = IdentificationProvider
+                .getIdentificationOf(context.getAddOns().getAddOn())
+                .flatMap(id -> {
+                    try {
+                        return context.getResources().generateResource(new PresenceResource(null, id));
+                    } catch (IllegalIDException e) {
+                        context.getLogger().error("unable to generate Resource", e);
+                        return Optional.empty();
+                    }
+                });
+        CompletableFuture<Snapshot> future = resources
+                .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
+                .handle((list, throwable) -> {
+                    if (throwable != null || list == null) {
+                        context.getLogger().error("unable to generate the PresenceResource", throwable);
+                        return generated(new HashMap<>(), changes, null);
+                    }
+                    Map<Identification, Presence> presences = new HashMap<>();
+                    for (ResourceModel resourceModel : list) {
+                        Presence.importPresence(resourceModel)
+                                .ifPresent(presence -> presences.put(resourceModel.getProvider(), presence));
+                    }
+                    return generated(presences, changes, checkedSources);
+                });
+        if (!future.isDone())
+            generating = future;
+        return future;
+    }
+
+    /**
+     * stores the generated Presences
+     * @param presences the generated Presences
+     * @param changes the number of changes when the generation started
+     * @param checkedSources the unknown sources when the generation started, or null if the generation failed
+     * @return the new Snapshot
+     */
+    private synchronized Snapshot generated(Map<Identification, Presence> presences, long changes,
+                                            Set<Identification> checkedSources) {
+        generating = null;
+        if (checkedSources != null) {
+            for (Identification source : checkedSources) {
+                unknownSources.remove(source);
+                if (!presences.containsKey(source))
+                    nonProviders.add(source);
+            }
+        }
+        //if an event arrived in the meantime or the generation failed, the Presences are only used once
+        long time = changes == this.changes && checkedSources != null ? System.currentTimeMillis() : 0;
+        Snapshot snapshot = new Snapshot(Collections.unmodifiableMap(presences), time);
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * updates the Presence of the provider which fired the event
+     * @param eventModel the fired event
+     */
+    private void eventFired(EventModel eventModel) {
+        Identification provider = eventModel.getSource();
+        if (provider == null)
+            return;
+        boolean leaving = eventModel.containsDescriptor(LeavingEvent.ID);
+        if (!leaving && !eventModel.containsDescriptor(PresenceEvent.ID))
+            return;
+        synchronized (this) {
+            changes++;
+            Snapshot snapshot = this.snapshot;
+            if (snapshot == null)
+                return;
+            if (!snapshot.presences.containsKey(provider)) {
+                //a new provider might have appeared, so the Presences get generated again with the next query
+                if (!nonProviders.contains(provider)) {
+                    unknownSources.add(provider);
+                    this.snapshot = null;
+                }
+                return;
+            }
+            Presence old = snapshot.presences.get(provider);
+            boolean known = leaving ? old.isKnown() : !eventModel.containsDescriptor(PresenceEvent.UNKNOWN_DESCRIPTOR);
+            Map<Identification, Presence> presences = new HashMap<>(snapshot.presences);
+            presences.put(provider, new Presence(old.getLevel(), !leaving, old.isStrict(), known));
+            this.snapshot = new Snapshot(Collections.unmodifiableMap(presences), snapshot.time);
+        }
+    }
+
+    /**
+     * the generated Presences and the time of the generation
+     */
+    private static final class Snapshot {
+        private final Map<Identification, Presence> presences;
+        private final long time;
+
+        private Snapshot(Map<Identification, Presence> presences, long time) {
+            this.presences = presences;
+            this.time = time;
+        }
+    }
+}
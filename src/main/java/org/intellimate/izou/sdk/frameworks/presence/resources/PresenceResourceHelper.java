@@ -1,12 +1,8 @@
 package org.intellimate.izou.sdk.frameworks.presence.resources;
 
-import org.intellimate.izou.sdk.frameworks.presence.provider.Presence;
 import org.intellimate.izou.sdk.util.ResourceUser;
 
-import java.util.ArrayList;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
  * provides basic methods to interact with the Presence Resource
@@ -14,17 +10,19 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public interface PresenceResourceHelper extends ResourceUser {
+    /**
+     * returns the PresenceAggregator of the AddOn
+     * @return the PresenceAggregator
+     */
+    default PresenceAggregator getPresenceAggregator() {
+        return PresenceAggregator.getInstance(getContext());
+    }
+
     /**
      * updates the boolean a non Strict provider is available
      */
     default CompletableFuture<Boolean> nonStrictAvailable() {
-        return generateResource(PresenceResource.ID)
-                .orElse(CompletableFuture.completedFuture(new ArrayList<>()))
-                .thenApply(list -> list.stream()
-                        .map(Presence::importPresence)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .noneMatch(Presence::isStrict));
+        return getPresenceAggregator().nonStrictAvailable(PresenceAggregator.DEFAULT_MAX_AGE);
     }
 
     /**
@@ -35,24 +33,18 @@ public interface PresenceResourceHelper extends ResourceUser {
      * @return a future true if present, false if not
      */
     default CompletableFuture<Boolean> getIsPresent(boolean strict, boolean ifNotPresent) {
-        return generateResource(PresenceResource.ID)
-                .map(future -> future.thenApply(
-                        list -> list.stream()
-                                .map(Presence::importPresence)
-                                .filter(Optional::isPresent)
-                                .map(Optional::get)
-                                .filter(Presence::isKnown)
-                                .filter(presence -> !strict || presence.isStrict())
-                                .collect(Collectors.toList()))
-                        .thenApply(list -> {
-                            if (list.isEmpty()) {
-                                return ifNotPresent;
-                            } else {
-                                return list.stream()
-                                        .anyMatch(Presence::isPresent);
-                            }
-                        })
-                )
-                .orElse(CompletableFuture.completedFuture(ifNotPresent));
+        return getIsPresent(strict, ifNotPresent, PresenceAggregator.DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * returns a CompletableFuture containing true if present, else false.
+     * if not presence-providers were found, it returns false.
+     * @param strict true if only addons where it is highly likely that the user is around should be creating the result
+     * @param ifNotPresent the default value
+     * @param maxAge the maximum age of the cached presence-information in milliseconds, 0 to always generate it
+     * @return a future true if present, false if not
+     */
+    default CompletableFuture<Boolean> getIsPresent(boolean strict, boolean ifNotPresent, long maxAge) {
+        return getPresenceAggregator().isPresent(strict, ifNotPresent, maxAge);
     }
 }
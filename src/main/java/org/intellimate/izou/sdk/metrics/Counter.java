@@ -0,0 +1,37 @@
+package org.intellimate.izou.sdk.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * a lock-free counter
+ * @version 1.0
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * increments the counter by one
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * adds the value to the counter
+     * @param value the value to add
+     */
+    public void add(long value) {
+        count.add(value);
+    }
+
+    /**
+     * returns the current count
+     * @return the count
+     */
+    public long get() {
+        return count.sum();
+    }
+}
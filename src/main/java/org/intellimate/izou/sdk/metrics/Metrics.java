@@ -0,0 +1,122 @@
+package org.intellimate.izou.sdk.metrics;
+
+import org.intellimate.izou.identification.Identification;
+import org.intellimate.izou.sdk.resource.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * the registry for the Counters, Histograms and Gauges of an AddOn, reachable through the Context.
+ * <p>
+ * The SDK records the following metrics (latencies in nanoseconds, prefixed with the ID of the module):
+ * </p>
+ * <ul>
+ *     <li>ID.provideResource: the time the ContentGenerator needed to generate the Resources</li>
+ *     <li>ID.queueWait: the time the Event waited in the queue of the OutputPlugin</li>
+ *     <li>ID.queue.dropped, ID.queue.coalesced, ID.queue.depth, ID.queue.maxDepth: the Events the EventQueue of
+ *     the OutputPlugin dropped or replaced, its current and its maximum depth</li>
+ *     <li>ID.outputExtensions: the time until the result of an OutputExtension arrived at the OutputPlugin</li>
+ *     <li>ID.render: the time the OutputPlugin needed to render the output</li>
+ *     <li>fireEvent.retries: how many times firing an Event had to be retried</li>
+ *     <li>fireEvent.failures: how many Events could not be fired because other Events were processed</li>
+ *     <li>threadPool.queueWait: the time a task submitted by ThreadPoolUser.submit() waited for a thread</li>
+ * </ul>
+ * @version 1.0
+ */
+public class Metrics {
+    /**
+     * the ID of the Resource containing a snapshot of the metrics
+     */
+    public static final String RESOURCE_ID = "izou.sdk.metrics";
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * returns the Counter with the name, creates it if not already existing
+     * @param name the name
+     * @return the Counter
+     */
+    public Counter getCounter(String name) {
+        Counter counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * returns the Histogram with the name, creates it if not already existing
+     * @param name the name
+     * @return the Histogram
+     */
+    public Histogram getHistogram(String name) {
+        Histogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * registers the Gauge, it gets called every time a snapshot is created
+     * @param name the name
+     * @param gauge the gauge, must be thread-safe
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * unregisters the Gauge
+     * @param name the name
+     */
+    public void unregisterGauge(String name) {
+        gauges.remove(name);
+    }
+
+    /**
+     * creates a snapshot of all the metrics.
+     * <p>
+     * Counters and Gauges are exported with their name, Histograms as name.count, name.mean, name.p50, name.p90,
+     * name.p99 and name.max.
+     * </p>
+     * @return a HashMap containing the current values
+     */
+    public HashMap<String, Object> snapshot() {
+        HashMap<String, Object> snapshot = new HashMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.get()));
+        gauges.forEach((name, gauge) -> snapshot.put(name, gauge.getAsLong()));
+        histograms.forEach((name, histogram) -> {
+            snapshot.put(name + ".count", histogram.getCount());
+            snapshot.put(name + ".mean", histogram.getMean());
+            snapshot.put(name + ".p50", histogram.getPercentile(50));
+            snapshot.put(name + ".p90", histogram.getPercentile(90));
+            snapshot.put(name + ".p99", histogram.getPercentile(99));
+            snapshot.put(name + ".max", histogram.getMax());
+        });
+        return snapshot;
+    }
+
+    /**
+     * creates a Resource containing a snapshot of all the metrics, for example to answer a request in a
+     * ResourceBuilder
+     * @param provider the provider of the Resource
+     * @return the Resource
+     */
+    public Resource<HashMap<String, Object>> createResource(Identification provider) {
+        return new Resource<>(RESOURCE_ID, provider, snapshot());
+    }
+
+    /**
+     * writes a snapshot of all the metrics to the file (one "name=value" per line, sorted by name)
+     * @param file the file to write to, gets overwritten
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(snapshot()).forEach((name, value) -> lines.add(name + "=" + value));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,444 @@
+package org.intellimate.izou.sdk.output;
+
+import org.intellimate.izou.events.EventModel;
+import org.intellimate.izou.sdk.events.CommonEvents;
+import org.intellimate.izou.sdk.metrics.Counter;
+import org.intellimate.izou.sdk.metrics.Metrics;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A BlockingQueue for the backlog of Events of an OutputPlugin, managed as specified by an EventQueuePolicy.
+ * <p>
+ * The queue never blocks when adding an Event: if it is full, either the new or the oldest Event is dropped.
+ * If coalescing, a new Event replaces the queued Event from the same source with the same type and descriptors
+ * (keeping its position). If prioritized, Events with the FullResponse-descriptor are taken first, then the
+ * MajorResponse and the MinorResponse, and then all the others. Events with the same priority are taken in the
+ * order they were added.
+ * Queued Events which get dropped or replaced are passed to the discard-callback (outside of the lock), the rejected
+ * new Events are signaled by the return value of offer().
+ * </p>
+ * @version 1.0
+ */
+public class EventQueue extends AbstractQueue<EventModel> implements BlockingQueue<EventModel> {
+    private static final int LEVELS = 4;
+    private final EventQueuePolicy policy;
+    private final List<ArrayDeque<Entry>> levels = new ArrayList<>(LEVELS);
+    private final Map<List<Object>, Entry> coalescing = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Consumer<EventModel> discarded;
+    private int size = 0;
+    private volatile int maxDepth = 0;
+
+    /**
+     * creates a new EventQueue
+     * @param policy the policy to manage the queue
+     */
+    public EventQueue(EventQueuePolicy policy) {
+        this(policy, new Metrics(), "eventQueue", eventModel -> {});
+    }
+
+    /**
+     * creates a new EventQueue
+     * <p>
+     * The metrics are registered as name.dropped, name.coalesced (Counters), name.depth and name.maxDepth (Gauges).
+     * </p>
+     * @param policy the policy to manage the queue
+     * @param metrics the Metrics to register the Counters with
+     * @param name the prefix of the names of the metrics
+     * @param discarded called with every queued Event which got dropped or replaced
+     */
+    public EventQueue(EventQueuePolicy policy, Metrics metrics, String name, Consumer<EventModel> discarded) {
+        this.policy = policy;
+        this.discarded = discarded;
+        for (int i = 0; i < LEVELS; i++) {
+            levels.add(new ArrayDeque<>());
+        }
+        dropped = metrics.getCounter(name + ".dropped");
+        coalesced = metrics.getCounter(name + ".coalesced");
+        metrics.registerGauge(name + ".depth", this::size);
+        metrics.registerGauge(name + ".maxDepth", () -> maxDepth);
+    }
+
+    /**
+     * returns the priority of the Event, lower means more important
+     * @param eventModel the Event
+     * @return 0 for FullResponse, 1 for MajorResponse, 2 for MinorResponse and 3 for all the others
+     */
+    public static int getPriority(EventModel eventModel) {
+        if (eventModel.containsDescriptor(CommonEvents.Response.FULL_RESPONSE_DESCRIPTOR))
+            return 0;
+        if (eventModel.containsDescriptor(CommonEvents.Response.MAJOR_RESPONSE_DESCRIPTOR))
+            return 1;
+        if (eventModel.containsDescriptor(CommonEvents.Response.MINOR_RESPONSE_DESCRIPTOR))
+            return 2;
+        return 3;
+    }
+
+    /**
+     * returns the associated policy
+     * @return the EventQueuePolicy
+     */
+    public EventQueuePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * returns how many Events were dropped because the queue was full
+     * @return the number of dropped Events
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * returns how many Events were replaced by newer Events
+     * @return the number of coalesced Events
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * returns the maximum number of Events which were queued at the same time
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * adds the Event as specified by the policy, never blocks.
+     * <p>
+     * If a queued Event gets dropped or replaced, it is passed to the discard-callback.
+     * </p>
+     * @param eventModel the Event to add
+     * @return false if the Event was dropped, true if not
+     */
+    @Override
+    public boolean offer(EventModel eventModel) {
+        if (eventModel == null)
+            throw new NullPointerException();
+        EventModel removed = null;
+        boolean added = false;
+        lock.lock();
+        try {
+            List<Object> key = null;
+            Entry existing = null;
+            if (policy.isCoalescing()) {
+                key = getCoalescingKey(eventModel);
+                existing = coalescing.get(key);
+            }
+            if (existing != null) {
+                removed = existing.eventModel;
+                existing.eventModel = eventModel;
+                coalesced.increment();
+                added = true;
+            } else {
+                int level = policy.isPrioritized() ? getPriority(eventModel) : LEVELS - 1;
+                if (size >= policy.getCapacity()) {
+                    if (policy.getOverflow() == EventQueuePolicy.Overflow.DROP_OLDEST)
+                        removed = dropOldest(level);
+                    if (removed == null) {
+                        dropped.increment();
+                        return false;
+                    }
+                }
+                Entry entry = new Entry(eventModel, key);
+                levels.get(level).addLast(entry);
+                if (key != null)
+                    coalescing.put(key, entry);
+                size++;
+                if (size > maxDepth)
+                    maxDepth = size;
+                notEmpty.signal();
+                added = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null)
+            discarded.accept(removed);
+        return added;
+    }
+
+    /**
+     * drops the oldest Event with the lowest priority, which is not more important than the level
+     * @param level the level of the new Event
+     * @return the dropped Event or null if none
+     */
+    private EventModel dropOldest(int level) {
+        for (int i = LEVELS - 1; i >= level; i--) {
+            if (!levels.get(i).isEmpty()) {
+                dropped.increment();
+                return unlink(levels.get(i).pollFirst());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * removes the bookkeeping for the already polled Entry
+     * @param entry the Entry
+     * @return the Event of the Entry
+     */
+    private EventModel unlink(Entry entry) {
+        size--;
+        if (entry.key != null && coalescing.get(entry.key) == entry)
+            coalescing.remove(entry.key);
+        return entry.eventModel;
+    }
+
+    /**
+     * returns the key used for coalescing
+     * @param eventModel the Event
+     * @return a List containing the source, the type and the descriptors
+     */
+    private List<Object> getCoalescingKey(EventModel eventModel) {
+        return Arrays.asList(eventModel.getSource() == null ? null : eventModel.getSource().getID(),
+                eventModel.getType(), new HashSet<Object>(eventModel.getDescriptors()));
+    }
+
+    /**
+     * returns the first non-empty level or null
+     * @return an ArrayDeque or null
+     */
+    private ArrayDeque<Entry> first() {
+        for (ArrayDeque<Entry> level : levels) {
+            if (!level.isEmpty())
+                return level;
+        }
+        return null;
+    }
+
+    @Override
+    public EventModel poll() {
+        lock.lock();
+        try {
+            ArrayDeque<Entry> first = first();
+            if (first == null)
+                return null;
+            return unlink(first.pollFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public EventModel peek() {
+        lock.lock();
+        try {
+            ArrayDeque<Entry> first = first();
+            if (first == null)
+                return null;
+            return first.peekFirst().eventModel;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(EventModel eventModel) {
+        offer(eventModel);
+    }
+
+    @Override
+    public boolean offer(EventModel eventModel, long timeout, TimeUnit unit) {
+        return offer(eventModel);
+    }
+
+    @Override
+    public EventModel take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            //noinspection ConstantConditions
+            return unlink(first().pollFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public EventModel poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            //noinspection ConstantConditions
+            return unlink(first().pollFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return policy.getCapacity() - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super EventModel> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super EventModel> c, int maxElements) {
+        if (c == this)
+            throw new IllegalArgumentException();
+        lock.lock();
+        try {
+            int n = 0;
+            ArrayDeque<Entry> first;
+            while (n < maxElements && (first = first()) != null) {
+                c.add(unlink(first.pollFirst()));
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes a single instance of the Event (the discard-callback is not called)
+     * @param o the Event to remove
+     * @return true if removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null)
+            return false;
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> level : levels) {
+                Iterator<Entry> iterator = level.iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = iterator.next();
+                    if (o.equals(entry.eventModel)) {
+                        iterator.remove();
+                        unlink(entry);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes all the Events matching the filter (the discard-callback is not called)
+     * @param filter the filter
+     * @return true if any Event was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super EventModel> filter) {
+        Objects.requireNonNull(filter);
+        lock.lock();
+        try {
+            boolean removed = false;
+            for (ArrayDeque<Entry> level : levels) {
+                Iterator<Entry> iterator = level.iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = iterator.next();
+                    if (filter.test(entry.eventModel)) {
+                        iterator.remove();
+                        unlink(entry);
+                        removed = true;
+                    }
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(eventModel -> !c.contains(eventModel));
+    }
+
+    /**
+     * returns an Iterator over a snapshot of the queue, in the order the Events would be taken.
+     * The Iterator does not support removal, use remove(Object) or removeIf() instead.
+     * @return an Iterator
+     */
+    @Override
+    public Iterator<EventModel> iterator() {
+        lock.lock();
+        try {
+            List<EventModel> snapshot = new ArrayList<>(size);
+            for (ArrayDeque<Entry> level : levels) {
+                for (Entry entry : level) {
+                    snapshot.add(entry.eventModel);
+                }
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventQueue{" +
+                "policy=" + policy +
+                ", size=" + size() +
+                ", dropped=" + getDropped() +
+                ", coalesced=" + getCoalesced() +
+                '}';
+    }
+
+    /**
+     * a queued Event, the Event may get replaced while coalescing
+     */
+    private static class Entry {
+        private EventModel eventModel;
+        private final List<Object> key;
+
+        private Entry(EventModel eventModel, List<Object> key) {
+            this.eventModel = eventModel;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.intellimate.izou.sdk.output;
+
+/**
+ * describes how the backlog of Events of an OutputPlugin is managed.
+ * <p>
+ * This class is immutable!
+ * </p>
+ * @version 1.0
+ * @see EventQueue
+ */
+public class EventQueuePolicy {
+    /**
+     * an unbounded FIFO-queue, the same behaviour as without a policy
+     */
+    public static final EventQueuePolicy UNBOUNDED = new EventQueuePolicy(Integer.MAX_VALUE, Overflow.DROP_NEWEST,
+            false, false);
+    private final int capacity;
+    private final Overflow overflow;
+    private final boolean coalesce;
+    private final boolean prioritized;
+
+    /**
+     * creates a new EventQueuePolicy
+     * @param capacity the maximum number of Events in the queue
+     * @param overflow what to drop if the queue is full
+     * @param coalesce whether a new Event replaces an queued Event from the same source with the same type and
+     *                 descriptors
+     * @param prioritized whether the Events are ordered by the Response-descriptors (see
+     *                    {@link EventQueue#getPriority(org.intellimate.izou.events.EventModel)})
+     * @throws IllegalArgumentException if the capacity is not positive or overflow is null
+     */
+    public EventQueuePolicy(int capacity, Overflow overflow, boolean coalesce, boolean prioritized)
+                                                                                    throws IllegalArgumentException {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        if (overflow == null) throw new IllegalArgumentException("overflow is null");
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.coalesce = coalesce;
+        this.prioritized = prioritized;
+    }
+
+    /**
+     * returns the maximum number of Events in the queue
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * returns what to drop if the queue is full
+     * @return the Overflow
+     */
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * returns whether a new Event replaces an queued Event from the same source with the same type and descriptors
+     * @return true if coalescing
+     */
+    public boolean isCoalescing() {
+        return coalesce;
+    }
+
+    /**
+     * returns whether the Events are ordered by the Response-descriptors
+     * @return true if prioritized
+     */
+    public boolean isPrioritized() {
+        return prioritized;
+    }
+
+    @Override
+    public String toString() {
+        return "EventQueuePolicy{" +
+                "capacity=" + capacity +
+                ", overflow=" + overflow +
+                ", coalesce=" + coalesce +
+                ", prioritized=" + prioritized +
+                '}';
+    }
+
+    /**
+     * what to drop if the queue is full
+     */
+    public enum Overflow {
+        /**
+         * drops the Event waiting the longest (with the lowest priority)
+         */
+        DROP_OLDEST,
+        /**
+         * drops the new Event
+         */
+        DROP_NEWEST
+    }
+}
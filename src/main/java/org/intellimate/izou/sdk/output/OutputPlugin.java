@@ -23,6 +23,17 @@ public abstract class OutputPlugin<T> extends OutputPluginArgument<Object, T> {
         super(context, id);
     }
 
+    /**
+     * creates a new output-plugin with a new id, the backlog of Events is managed as specified by the policy
+     *
+     * @param context context
+     * @param id      the id of the new output-plugin
+     * @param eventQueuePolicy the policy used for the backlog of Events
+     */
+    public OutputPlugin(Context context, String id, EventQueuePolicy eventQueuePolicy) {
+        super(context, id, eventQueuePolicy);
+    }
+
 
 
     /**
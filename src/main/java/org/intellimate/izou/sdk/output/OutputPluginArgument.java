@@ -6,15 +6,12 @@ import org.intellimate.izou.identification.Identification;
 import org.intellimate.izou.output.OutputPluginModel;
 import org.intellimate.izou.resource.ResourceModel;
 import org.intellimate.izou.sdk.Context;
+import org.intellimate.izou.sdk.metrics.Histogram;
 import org.intellimate.izou.sdk.util.AddOnModule;
 import org.intellimate.izou.sdk.util.ThreadPoolUser;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -30,7 +27,7 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
     /**
      * here are the events stored before they get processed
      */
-    private final BlockingQueue<EventModel> eventBlockingQueue = new LinkedBlockingDeque<>();
+    private final BlockingQueue<EventModel> eventBlockingQueue;
     /**
      * the type argument for the Data you want to receive
      */
@@ -39,6 +36,13 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
      * the type argument for the Data you want to give the OutputExtensions as an argument
      */
     private final TypeToken<T> argumentTypeToken;
+    /**
+     * the time (System.nanoTime()) the queued Events were added
+     */
+    private final Map<EventModel, Long> queuedSince = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Histogram queueWaitLatency;
+    private final Histogram outputExtensionsLatency;
+    private final Histogram renderLatency;
 
     /**
      * setting this boolean to true stops the while-loop
@@ -58,8 +62,31 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
      */
     public OutputPluginArgument(Context context, String id) {
         super(context, id);
+        this.eventBlockingQueue = new LinkedBlockingDeque<>();
+        this.receivingTypeToken = new TypeToken<X>(getClass()) {};
+        this.argumentTypeToken = new TypeToken<T>(getClass()) {};
+        this.queueWaitLatency = context.getMetrics().getHistogram(id + ".queueWait");
+        this.outputExtensionsLatency = context.getMetrics().getHistogram(id + ".outputExtensions");
+        this.renderLatency = context.getMetrics().getHistogram(id + ".render");
+    }
+
+    /**
+     * creates a new output-plugin with a new id, the backlog of Events is managed as specified by the policy
+     *
+     * @param context context
+     * @param id the id of the new output-plugin
+     * @param eventQueuePolicy the policy used for the backlog of Events
+     * @see EventQueue
+     */
+    public OutputPluginArgument(Context context, String id, EventQueuePolicy eventQueuePolicy) {
+        super(context, id);
+        this.eventBlockingQueue = new EventQueue(eventQueuePolicy, context.getMetrics(), id + ".queue",
+                event -> discarded(event, "dropped or replaced"));
         this.receivingTypeToken = new TypeToken<X>(getClass()) {};
         this.argumentTypeToken = new TypeToken<T>(getClass()) {};
+        this.queueWaitLatency = context.getMetrics().getHistogram(id + ".queueWait");
+        this.outputExtensionsLatency = context.getMetrics().getHistogram(id + ".outputExtensions");
+        this.renderLatency = context.getMetrics().getHistogram(id + ".render");
     }
 
     /**
@@ -118,13 +145,29 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
 
     /**
      * Adds an event to blockingQueue
+     * <p>
+     * If the backlog is managed by an EventQueuePolicy, the Event may get dropped.
+     * </p>
      *
      * @param event the event to add
-     * @throws IllegalStateException raised if problems adding an event to blockingQueue
      */
     @Override
     public void addToEventList(EventModel event) {
-        eventBlockingQueue.add(event);
+        queuedSince.put(event, System.nanoTime());
+        if (!eventBlockingQueue.offer(event))
+            discarded(event, "dropped, the queue is full");
+    }
+
+    /**
+     * called when the Event will not be processed because the queue dropped or replaced it, notifies the
+     * output-manager as if it was processed
+     * @param event the discarded Event
+     * @param reason the reason to log
+     */
+    private void discarded(EventModel event, String reason) {
+        queuedSince.remove(event);
+        getContext().getLogger().warn("event " + event + " " + reason);
+        isDone(event);
     }
 
     @Override
@@ -162,6 +205,16 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
     }
 
     public void handleFutures(List<CompletableFuture<X>> futures, EventModel eventModel) {
+        handleFutures(futures, eventModel, null);
+    }
+
+    /**
+     * collects the results of the futures and renders them
+     * @param futures the futures of the OutputExtensions
+     * @param eventModel the Event which caused the whole thing
+     * @param partialOutput the PartialOutput if the partial output is rendered, else null
+     */
+    private void handleFutures(List<CompletableFuture<X>> futures, EventModel eventModel, PartialOutput partialOutput) {
         List<X> result = futures.stream()
                 .map(future -> {
                     try {
@@ -172,12 +225,23 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
                     } catch (ExecutionException e) {
                         getContext().getLogger().error("future finished exceptionally", e);
                         return null;
+                    } catch (CancellationException e) {
+                        return null;
                     }
                 })
                 .collect(Collectors.toList());
         isWorking = true;
-        renderFinalOutput(result, eventModel);
-        isWorking = false;
+        long start = System.nanoTime();
+        try {
+            if (partialOutput != null) {
+                partialOutput.complete(result);
+            } else {
+                renderFinalOutput(result, eventModel);
+            }
+        } finally {
+            renderLatency.recordSince(start);
+            isWorking = false;
+        }
     }
 
     /**
@@ -185,9 +249,14 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
      *
      * it will instruct the outputManager to let the outputExtensions generate the data. Wait for the time specified
      * in getTimeoutLimit() (standard is 1000 milliseconds) abd the call renderFinalOutput() with the resulting data.
+     * If getMaxInFlight() is greater than 1, the Events are processed pipelined (see {@link #getMaxInFlight()}).
      */
     @Override
     public void run() {
+        if (getMaxInFlight() > 1) {
+            runPipelined();
+            return;
+        }
         while (!stop) {
             EventModel event;
             try {
@@ -197,8 +266,13 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
                 continue;
             }
 
-            List<CompletableFuture<X>> outputExtensions = getContext().getOutput()
-                    .generateAllOutputExtensions(this, getArgument(), event);
+            List<CompletableFuture<X>> outputExtensions = generateOutputExtensions(event);
+
+            PartialOutput partialOutput = null;
+            if (isRenderingPartialOutput()) {
+                partialOutput = new PartialOutput(outputExtensions, event);
+                partialOutput.activate();
+            }
 
             try {
                 outputExtensions = timeOut(outputExtensions, getTimeoutLimit());
@@ -206,13 +280,89 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
                 getContext().getLogger().warn(e);
             }
 
-            handleFutures(outputExtensions, event);
+            handleFutures(outputExtensions, event, partialOutput);
 
             //notifies output-manager when done processing
             isDone(event);
         }
     }
 
+    /**
+     * processes the Events pipelined: the OutputExtensions for the next Events already generate while the current
+     * Event gets rendered. At most getMaxInFlight() Events are processed at the same time, renderFinalOutput() is
+     * still called one Event after another and in the order the Events were received.
+     */
+    private void runPipelined() {
+        Semaphore inFlight = new Semaphore(getMaxInFlight());
+        CompletableFuture<Void> lastRender = CompletableFuture.completedFuture(null);
+        while (!stop) {
+            EventModel event;
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                getContext().getLogger().warn(e);
+                continue;
+            }
+            try {
+                event = blockingQueueHandling();  //gets the new Event if one was added to the blockingQueue
+            } catch (InterruptedException e) {
+                inFlight.release();
+                getContext().getLogger().warn(e);
+                continue;
+            }
+
+            List<CompletableFuture<X>> outputExtensions = generateOutputExtensions(event);
+
+            CompletableFuture<List<CompletableFuture<X>>> generated = timeOutAsync(outputExtensions, getTimeoutLimit());
+
+            CompletableFuture<Void> previous = lastRender;
+            PartialOutput partialOutput = null;
+            if (isRenderingPartialOutput()) {
+                partialOutput = new PartialOutput(outputExtensions, event);
+                //the partial output is rendered when the previous Event is done
+                previous = previous.thenRun(partialOutput::activate);
+            }
+            PartialOutput finalPartialOutput = partialOutput;
+
+            //chained to the previous render to keep the order
+            lastRender = previous
+                    .thenCombine(generated, (ignored, futures) -> futures)
+                    .thenAcceptAsync(futures -> handleFutures(futures, event, finalPartialOutput),
+                            getContext().getThreadPool().getThreadPool())
+                    //runs always, also if the partial output failed, the thread-pool rejected or rendering threw
+                    .handle((ignored, throwable) -> {
+                        try {
+                            if (throwable != null)
+                                getContext().getLogger().error("unable to render the output", throwable);
+                            //notifies output-manager when done processing
+                            isDone(event);
+                        } catch (Exception e) {
+                            getContext().getLogger().error("unable to notify the output-manager", e);
+                        } finally {
+                            inFlight.release();
+                        }
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * records how long the Event waited in the queue and lets the OutputExtensions generate the data
+     * @param event the Event taken from the queue
+     * @return the futures of the OutputExtensions
+     */
+    private List<CompletableFuture<X>> generateOutputExtensions(EventModel event) {
+        Long queued = queuedSince.remove(event);
+        if (queued != null)
+            queueWaitLatency.recordSince(queued);
+        long start = System.nanoTime();
+        List<CompletableFuture<X>> outputExtensions = getContext().getOutput()
+                .generateAllOutputExtensions(this, getArgument(), event);
+        outputExtensions.forEach(future ->
+                future.whenComplete((result, throwable) -> outputExtensionsLatency.recordSince(start)));
+        return outputExtensions;
+    }
+
     /**
      * Default implementation waits until a new Event has been received and then processes it.
      *
@@ -233,6 +383,52 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
         return 1000;
     }
 
+    /**
+     * gets how many Events are processed at the same time.
+     * <p>
+     * The default is 1, which means an Event is only taken from the queue when the previous is rendered. Return a
+     * greater number to let the OutputExtensions of the following Events generate while the current Event is
+     * rendered. renderFinalOutput() is still called one Event after another and in the order they were received.
+     * </p>
+     * @return the maximum number of Events in flight
+     */
+    public int getMaxInFlight() {
+        return 1;
+    }
+
+    /**
+     * returns whether the results of the OutputExtensions are rendered as soon as they arrive.
+     * <p>
+     * The default is false. If true, renderPartialOutput() is called for every result when it arrives (one result
+     * after another) and renderComplete() when all the OutputExtensions are done or timed out. renderFinalOutput()
+     * is then not called.
+     * </p>
+     * @return true if the partial output is rendered
+     */
+    public boolean isRenderingPartialOutput() {
+        return false;
+    }
+
+    /**
+     * renders the result of one OutputExtension as soon as it arrives.
+     * <p>
+     * Only called if isRenderingPartialOutput() returns true, the default implementation does nothing.
+     * </p>
+     * @param data the data generated by one OutputExtension
+     * @param eventModel the Event which caused the whole thing
+     */
+    public void renderPartialOutput(X data, EventModel eventModel) {}
+
+    /**
+     * called when all the OutputExtensions are done or timed out.
+     * <p>
+     * Only called if isRenderingPartialOutput() returns true, the default implementation does nothing.
+     * </p>
+     * @param data all the data generated (the timed out or failed OutputExtensions are null)
+     * @param eventModel the Event which caused the whole thing
+     */
+    public void renderComplete(List<X> data, EventModel eventModel) {}
+
     /**
      * method that uses tDoneList to generate a final output that will then be rendered.
      * @param data the data generated
@@ -245,4 +441,72 @@ public abstract class OutputPluginArgument<T, X> extends AddOnModule implements
      * @return the argument
      */
     public abstract T getArgument();
+
+    /**
+     * renders the results of the OutputExtensions for one Event as they arrive.
+     * <p>
+     * The results are buffered until the PartialOutput is activated, after completion all further results are
+     * ignored.
+     * </p>
+     */
+    private class PartialOutput {
+        private final EventModel event;
+        private final List<X> pending = new ArrayList<>();
+        private boolean active = false;
+        private boolean completed = false;
+
+        /**
+         * creates a new PartialOutput
+         * @param futures the futures of the OutputExtensions
+         * @param event the Event which caused the whole thing
+         */
+        PartialOutput(List<CompletableFuture<X>> futures, EventModel event) {
+            this.event = event;
+            futures.forEach(future -> future.thenAccept(this::received));
+        }
+
+        /**
+         * called when a result arrived
+         * @param data the result
+         */
+        private synchronized void received(X data) {
+            if (completed || data == null)
+                return;
+            if (active) {
+                render(data);
+            } else {
+                pending.add(data);
+            }
+        }
+
+        /**
+         * starts to render the results, all the buffered results are rendered immediately
+         */
+        synchronized void activate() {
+            active = true;
+            pending.forEach(this::render);
+            pending.clear();
+        }
+
+        /**
+         * renders the complete output, all the following results are ignored
+         * @param data all the data generated
+         */
+        synchronized void complete(List<X> data) {
+            completed = true;
+            renderComplete(data, event);
+        }
+
+        /**
+         * renders the result
+         * @param data the result
+         */
+        private void render(X data) {
+            try {
+                renderPartialOutput(data, event);
+            } catch (RuntimeException e) {
+                getContext().getLogger().error("unable to render the partial output", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package org.intellimate.izou.sdk.resource;
+
+import org.intellimate.izou.resource.ListResourceProvider;
+import org.intellimate.izou.resource.ResourceModel;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A ResourceContainer which holds all the Resources in an List internally and additionally indexes them by the
+ * resource-ID and the ID of the provider.
+ * <p>
+ * All the lookups are answered from the index, the order of the returned resources is the insertion order.
+ * </p>
+ */
+public class IndexedListResourceProviderImpl implements ListResourceProvider {
+    final List<ResourceModel> resources = new ArrayList<>();
+    private final Map<String, List<ResourceModel>> byResourceID = new HashMap<>();
+    private final Map<String, List<ResourceModel>> byProviderID = new HashMap<>();
+
+    /**
+     * adds a Resource to the Container
+     * @param resource an instance of the resource to add
+     */
+    @Override
+    public void addResource(ResourceModel resource) {
+        resources.add(resource);
+        byResourceID.computeIfAbsent(resource.getResourceID(), id -> new ArrayList<>(1)).add(resource);
+        if (resource.getProvider() != null) {
+            byProviderID.computeIfAbsent(resource.getProvider().getID(), id -> new ArrayList<>(1)).add(resource);
+        }
+    }
+
+    /**
+     * adds a List of Resources to the Container
+     * @param resources a List of resources to add
+     */
+    @Override
+    public void addResource(List<ResourceModel> resources) {
+        resources.forEach(this::addResource);
+    }
+
+    /**
+     * returns all the Resources in insertion order
+     * @return an unmodifiable List of the resources
+     */
+    public List<ResourceModel> getResources() {
+        return Collections.unmodifiableList(resources);
+    }
+
+    /**
+     * checks whether it can provide the resource
+     *
+     * @param resource the resource to provide
+     * @return true if the container can provide the resource
+     */
+    @Override
+    public boolean providesResource(ResourceModel resource) {
+        return byResourceID.containsKey(resource.getResourceID());
+    }
+
+    /**
+     * checks whether there are any resources registered from the source
+     *
+     * @param sourceID the ID of the source
+     * @return true if the container has resources from the source
+     */
+    @Override
+    public boolean containsResourcesFromSource(String sourceID) {
+        return byProviderID.containsKey(sourceID);
+    }
+
+    /**
+     * checks whether the ResourceContainer can provide at least ONE resource
+     *
+     * @param resourcesIDs a list containing sources
+     * @return true if the ResourceContainer can provide at least one resource
+     */
+    @Override
+    public boolean providesResource(List<String> resourcesIDs) {
+        for (String resourceID : resourcesIDs) {
+            if (byResourceID.containsKey(resourceID))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * returns all EXISTING resources for the ID.
+     * If there are no resources for the ID the ID will get skipped
+     *
+     * @param resourceIDs an Array containing the resources
+     * @return a list of resources found
+     */
+    @Override
+    public List<ResourceModel> provideResource(String[] resourceIDs) {
+        Set<String> matching = new HashSet<>();
+        List<ResourceModel> found = null;
+        for (String resourceID : resourceIDs) {
+            List<ResourceModel> resourceModels = byResourceID.get(resourceID);
+            if (resourceModels != null && matching.add(resourceID))
+                found = resourceModels;
+        }
+        if (matching.isEmpty())
+            return new ArrayList<>();
+        if (matching.size() == 1)
+            return new ArrayList<>(found);
+        //more than one ID matched, preserve the insertion order
+        return resources.stream()
+                .filter(resource -> matching.contains(resource.getResourceID()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * returns the FIRST resource (if existing)
+     *
+     * @param resourceID the ID of the resource
+     * @return a list of resources found
+     */
+    @Override
+    public List<ResourceModel> provideResource(String resourceID) {
+        List<ResourceModel> resourceModels = byResourceID.get(resourceID);
+        if (resourceModels == null)
+            return new ArrayList<>();
+        return new ArrayList<>(resourceModels);
+    }
+
+    /**
+     * returns the resource (if existing) from the source
+     *
+     * @param sourceID the ID of the source
+     * @return a list containing all the found resources
+     */
+    @Override
+    public List<ResourceModel> provideResourceFromSource(String sourceID) {
+        List<ResourceModel> resourceModels = byProviderID.get(sourceID);
+        if (resourceModels == null)
+            return new ArrayList<>();
+        return new ArrayList<>(resourceModels);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedListResourceProviderImpl{" +
+                "resources=" + resources +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import org.intellimate.izou.resource.ResourceModel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,14 @@ public class ListResourceProviderImpl implements ListResourceProvider {
         this.resources.addAll(resources);
     }
 
+    /**
+     * returns all the Resources in insertion order
+     * @return an unmodifiable List of the resources
+     */
+    public List<ResourceModel> getResources() {
+        return Collections.unmodifiableList(resources);
+    }
+
     /**
      * checks whether it can provide the resource
      *
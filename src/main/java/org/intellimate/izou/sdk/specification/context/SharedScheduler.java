@@ -0,0 +1,22 @@
+package org.intellimate.izou.sdk.specification.context;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * holds the Scheduler used by the default implementation of {@link ThreadPool#getScheduler()}, it gets created when
+ * the class is first used.
+ * @version 1.0
+ */
+final class SharedScheduler {
+    private static final AtomicInteger counter = new AtomicInteger();
+    static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1, runnable -> {
+        Thread thread = new Thread(runnable, "izou-sdk-scheduler-shared-" + counter.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SharedScheduler() {
+    }
+}
@@ -1,6 +1,7 @@
 package org.intellimate.izou.sdk.specification.context;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * @author Leander Kurscheidt
@@ -13,4 +14,18 @@ public interface ThreadPool extends org.intellimate.izou.system.context.ThreadPo
      * @return an instance of ExecutorService or Null if there is a problem with the Identifier
      */
     ExecutorService getThreadPool();
+
+    /**
+     * returns the Scheduler shared by all the modules of the AddOn.
+     * <p>
+     * It runs on a few daemon-threads, so the scheduled tasks should only be short (like resubmitting work to the
+     * ThreadPool or completing a future).
+     * The default implementation returns a Scheduler shared by everybody not providing their own, it gets created
+     * when first used.
+     * </p>
+     * @return an instance of ScheduledExecutorService
+     */
+    default ScheduledExecutorService getScheduler() {
+        return SharedScheduler.SCHEDULER;
+    }
 }
@@ -1,19 +1,21 @@
 package org.intellimate.izou.sdk.util;
 
-import org.intellimate.izou.identification.Identifiable;
-import org.intellimate.izou.identification.IdentificationManager;
+import org.intellimate.izou.identification.Identification;
 import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.Context;
 
+import java.util.Optional;
+
 /**
  * This is the base-class for all AddOn-Modules, it provides various utility methods.
  *
  * @author Leander Kurscheidt
  * @version 1.0
  */
-public abstract class AddOnModule implements ContextProvider, Loggable, LoggedExceptionCallback, Identifiable {
+public abstract class AddOnModule implements ContextProvider, Loggable, LoggedExceptionCallback, IdentificationProvider {
     private final Context context;
     private final String ID;
+    private volatile Optional<Identification> identification = null;
 
     /**
      * initializes the Module
@@ -42,4 +44,31 @@ public abstract class AddOnModule implements ContextProvider, Loggable, LoggedEx
     public String getID() {
         return ID;
     }
+
+    /**
+     * returns the Identification of this instance.
+     * <p>
+     * The Identification is resolved only once and then cached until {@link #registerIdentification()} is called.
+     * </p>
+     * @return an Optional, which is empty if this instance is not registered with the IdentificationManager
+     */
+    @Override
+    public Optional<Identification> getIdentification() {
+        Optional<Identification> identification = this.identification;
+        if (identification == null) {
+            identification = IdentificationManagerM.getInstance().getIdentification(this);
+            if (identification.isPresent())
+                this.identification = identification;
+        }
+        return identification;
+    }
+
+    /**
+     * registers the module (again) with the IdentificationManager and invalidates the cached Identification
+     * @return true if registered, false if not
+     */
+    public boolean registerIdentification() {
+        identification = null;
+        return IdentificationManagerM.getInstance().registerIdentification(this);
+    }
 }
@@ -0,0 +1,88 @@
+package org.intellimate.izou.sdk.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * describes how often and with which delays an operation should be retried.
+ * <p>
+ * The delay grows exponentially with every attempt (initialDelay * multiplier^attempt), is capped at maxDelay and
+ * randomized by the jitter-factor to avoid that many retries wake up at the same time.
+ * This class is immutable!
+ * </p>
+ * @version 1.0
+ */
+public class Backoff {
+    /**
+     * the default Backoff: 5 retries, starting with 50 milliseconds, doubling every time, at most 800 milliseconds
+     * and 20% jitter.
+     */
+    public static final Backoff DEFAULT = new Backoff(5, 50, 2, 800, 0.2);
+    private final int retries;
+    private final long initialDelay;
+    private final double multiplier;
+    private final long maxDelay;
+    private final double jitter;
+
+    /**
+     * creates a new Backoff
+     * @param retries how many times it should try
+     * @param initialDelay the delay before the first retry in milliseconds
+     * @param multiplier the factor the delay gets multiplied with for every following retry
+     * @param maxDelay the maximum delay in milliseconds
+     * @param jitter the fraction (0 to 1) the delay gets randomly shortened or lengthened by
+     * @throws IllegalArgumentException if one of the arguments is out of range
+     */
+    public Backoff(int retries, long initialDelay, double multiplier, long maxDelay, double jitter)
+                                                                                    throws IllegalArgumentException {
+        if (retries < 1) throw new IllegalArgumentException("retries must be positive");
+        if (initialDelay < 0 || maxDelay < initialDelay) throw new IllegalArgumentException("illegal delay");
+        if (multiplier < 1) throw new IllegalArgumentException("multiplier must be at least 1");
+        if (jitter < 0 || jitter > 1) throw new IllegalArgumentException("jitter must be between 0 and 1");
+        this.retries = retries;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+    }
+
+    /**
+     * returns how many times it should try
+     * @return the number of tries
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * returns a new Backoff with the specified number of retries
+     * @param retries how many times it should try
+     * @return a new Backoff
+     */
+    public Backoff setRetries(int retries) {
+        return new Backoff(retries, initialDelay, multiplier, maxDelay, jitter);
+    }
+
+    /**
+     * returns the delay before the next try
+     * @param attempt the number of the failed attempt, starting with 0
+     * @return the delay in milliseconds
+     */
+    public long getDelay(int attempt) {
+        double delay = Math.min(initialDelay * Math.pow(multiplier, attempt), maxDelay);
+        if (jitter > 0) {
+            delay = delay * (1 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter);
+        }
+        return Math.max(0, Math.round(delay));
+    }
+
+    @Override
+    public String toString() {
+        return "Backoff{" +
+                "retries=" + retries +
+                ", initialDelay=" + initialDelay +
+                ", multiplier=" + multiplier +
+                ", maxDelay=" + maxDelay +
+                ", jitter=" + jitter +
+                '}';
+    }
+}
@@ -2,20 +2,19 @@ package org.intellimate.izou.sdk.util;
 
 import org.intellimate.izou.events.MultipleEventsException;
 import org.intellimate.izou.identification.Identifiable;
-import org.intellimate.izou.identification.IdentificationManager;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.identification.IllegalIDException;
 import org.intellimate.izou.sdk.events.Event;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Leander Kurscheidt
  * @version 1.0
  */
-public interface FireEvent extends ContextProvider, Identifiable {
+public interface FireEvent extends ContextProvider, IdentificationProvider {
 
     /**
      * tries to fire an Event 5 times, returns true if succeed.
@@ -54,7 +53,7 @@ public interface FireEvent extends ContextProvider, Identifiable {
      * @return true if fired, false if unable
      */
     default boolean fire(String type, List<String> descriptors, int retry) {
-        Optional<Event> event = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<Event> event = getIdentification()
                 .flatMap(id -> Event.createEvent(type, id, descriptors));
         if (!event.isPresent()) {
             getContext().getLogger().error("unable to obtain ID");
@@ -80,6 +79,10 @@ public interface FireEvent extends ContextProvider, Identifiable {
                 getContext().getEvents().fireEvent(event);
                 return true;
             } catch (MultipleEventsException e) {
+                counter++;
+                if (counter >= retry)
+                    break;
+                getContext().getMetrics().getCounter(FireEventTask.RETRIES).increment();
                 try {
                     Thread.sleep(100);
                 } catch (InterruptedException e1) {
@@ -88,8 +91,10 @@ public interface FireEvent extends ContextProvider, Identifiable {
             } catch (IllegalIDException e) {
                 //maybe change in future SDK-Versions? currently not implemented in Izou
                 getContext().getLogger().error("Illegal ID!", e);
+                return false;
             }
         }
+        getContext().getMetrics().getCounter(FireEventTask.FAILURES).increment();
         return false;
     }
 
@@ -104,4 +109,50 @@ public interface FireEvent extends ContextProvider, Identifiable {
     default boolean fire(Event event) {
         return fire(event, 5);
     }
+
+    /**
+     * fires the Event without blocking the calling thread, the returned future is completed with true if fired,
+     * false if unable.
+     * <p>
+     * If there is currently another Event getting processed, it will retry with the default Backoff
+     * ({@link Backoff#DEFAULT}) on the Scheduler of the AddOn.
+     * </p>
+     * @param event the event to fire
+     * @return a CompletableFuture completed with true if fired, false if unable
+     */
+    default CompletableFuture<Boolean> fireAsync(Event event) {
+        return fireAsync(event, Backoff.DEFAULT);
+    }
+
+    /**
+     * fires the Event without blocking the calling thread, the returned future is completed with true if fired,
+     * false if unable.
+     * <p>
+     * If there is currently another Event getting processed, it will retry as specified by the Backoff on the
+     * Scheduler of the AddOn.
+     * </p>
+     * @param event the event to fire
+     * @param backoff the Backoff specifying the retries
+     * @return a CompletableFuture completed with true if fired, false if unable
+     */
+    default CompletableFuture<Boolean> fireAsync(Event event, Backoff backoff) {
+        FireEventTask task = new FireEventTask(this, event, backoff);
+        task.run();
+        return task.getResult();
+    }
+
+    /**
+     * fires the Event without blocking the calling thread, after all the Events of the same source which were passed
+     * to this method before are fired (or given up).
+     * <p>
+     * Use this method for updates of a state (for example the presence or the playback), so that a retried Event is
+     * not overtaken by a newer one. The retries use the default Backoff ({@link Backoff#DEFAULT}).
+     * </p>
+     * @param event the event to fire
+     * @return a CompletableFuture completed with true if fired, false if unable
+     */
+    default CompletableFuture<Boolean> fireAsyncInOrder(Event event) {
+        return getContext().getHelper(OrderedFires.class, context -> new OrderedFires())
+                .fire(event.getSource().getID(), () -> fireAsync(event));
+    }
 }
@@ -0,0 +1,82 @@
+package org.intellimate.izou.sdk.util;
+
+import org.intellimate.izou.events.MultipleEventsException;
+import org.intellimate.izou.identification.IllegalIDException;
+import org.intellimate.izou.sdk.events.Event;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tries to fire an Event and reschedules itself on the Scheduler of the AddOn if another Event is currently
+ * getting processed.
+ * @version 1.0
+ * @see FireEvent#fireAsync(Event, Backoff)
+ */
+class FireEventTask implements Runnable {
+    /**
+     * the name of the Counter of the retries
+     */
+    static final String RETRIES = "fireEvent.retries";
+    /**
+     * the name of the Counter of the Events which could not be fired because of other Events
+     */
+    static final String FAILURES = "fireEvent.failures";
+    private final FireEvent fireEvent;
+    private final Event event;
+    private final Backoff backoff;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+    private int attempt = 0;
+
+    /**
+     * creates a new FireEventTask
+     * @param fireEvent the one who fires the Event
+     * @param event the event to fire
+     * @param backoff the Backoff to use
+     */
+    FireEventTask(FireEvent fireEvent, Event event, Backoff backoff) {
+        this.fireEvent = fireEvent;
+        this.event = event;
+        this.backoff = backoff;
+    }
+
+    /**
+     * returns the future, which will be completed with true if fired, false if unable
+     * @return a CompletableFuture
+     */
+    CompletableFuture<Boolean> getResult() {
+        return result;
+    }
+
+    @Override
+    public void run() {
+        if (result.isDone())
+            return;
+        try {
+            fireEvent.getContext().getEvents().fireEvent(event);
+            result.complete(true);
+        } catch (MultipleEventsException e) {
+            attempt++;
+            if (attempt >= backoff.getRetries()) {
+                fireEvent.getContext().getMetrics().getCounter(FAILURES).increment();
+                result.complete(false);
+                return;
+            }
+            fireEvent.getContext().getMetrics().getCounter(RETRIES).increment();
+            try {
+                fireEvent.getContext().getThreadPool().getScheduler()
+                        .schedule(this, backoff.getDelay(attempt - 1), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e1) {
+                fireEvent.getContext().getLogger().error("unable to schedule retry", e1);
+                result.complete(false);
+            }
+        } catch (IllegalIDException e) {
+            //maybe change in future SDK-Versions? currently not implemented in Izou
+            fireEvent.getContext().getLogger().error("Illegal ID!", e);
+            result.complete(false);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
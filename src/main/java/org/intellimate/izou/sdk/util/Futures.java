@@ -0,0 +1,34 @@
+package org.intellimate.izou.sdk.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * helper-methods for the timeouts of the ThreadPoolUser
+ * @version 1.0
+ */
+final class Futures {
+    private Futures() {
+    }
+
+    /**
+     * cancels all the futures which are not done and returns the done futures
+     * @param futures the collection of futures
+     * @param contextProvider used to log the timed out futures
+     * @param <U> the return type of the futures
+     * @param <V> the type of the futures
+     * @return a List of the done futures
+     */
+    static <U, V extends Future<U>> List<V> cancelUnfinished(Collection<? extends V> futures,
+                                                             ContextProvider contextProvider) {
+        futures.stream()
+                .filter(future -> !future.isDone())
+                .peek(future -> contextProvider.error(future.toString()+ " timed out"))
+                .forEach(future -> future.cancel(true));
+        return futures.stream()
+                .filter(Future::isDone)
+                .collect(Collectors.<V>toList());
+    }
+}
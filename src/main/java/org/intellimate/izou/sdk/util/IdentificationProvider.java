@@ -0,0 +1,36 @@
+package org.intellimate.izou.sdk.util;
+
+import org.intellimate.izou.identification.Identifiable;
+import org.intellimate.izou.identification.Identification;
+import org.intellimate.izou.identification.IdentificationManagerM;
+
+import java.util.Optional;
+
+/**
+ * This interface signals that this class can return its own Identification.
+ * <p>
+ * AddOnModule resolves its Identification only once and caches it, so prefer this method over asking the
+ * IdentificationManager every time.
+ * </p>
+ * @version 1.0
+ */
+public interface IdentificationProvider extends Identifiable {
+    /**
+     * returns the Identification of this instance
+     * @return an Optional, which is empty if this instance is not registered with the IdentificationManager
+     */
+    default Optional<Identification> getIdentification() {
+        return IdentificationManagerM.getInstance().getIdentification(this);
+    }
+
+    /**
+     * returns the Identification of the Identifiable, using the cached Identification if possible
+     * @param identifiable the Identifiable
+     * @return an Optional, which is empty if the Identifiable is not registered with the IdentificationManager
+     */
+    static Optional<Identification> getIdentificationOf(Identifiable identifiable) {
+        if (identifiable instanceof IdentificationProvider)
+            return ((IdentificationProvider) identifiable).getIdentification();
+        return IdentificationManagerM.getInstance().getIdentification(identifiable);
+    }
+}
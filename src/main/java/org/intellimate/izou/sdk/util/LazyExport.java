@@ -0,0 +1,246 @@
+package org.intellimate.izou.sdk.util;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * a HashMap which carries the exported (immutable) object and only fills itself with the descriptor-entries when
+ * it is accessed as a Map for the first time.
+ * <p>
+ * Importers of the SDK check for this class and use the object directly (see {@link #getValue()}), so the
+ * HashMap-form is only created for consumers which still read the single entries.
+ * </p>
+ * @param <T> the type of the exported object
+ * @param <V> the type of the values of the HashMap
+ * @version 1.0
+ */
+public class LazyExport<T, V> extends HashMap<String, V> {
+    private final transient T value;
+    private transient Function<T, Map<String, V>> exporter;
+    private volatile boolean materialized = false;
+
+    /**
+     * creates a new LazyExport
+     * @param value the exported object, must be immutable
+     * @param exporter the function which creates the descriptor-entries
+     */
+    public LazyExport(T value, Function<T, Map<String, V>> exporter) {
+        this.value = value;
+        this.exporter = exporter;
+    }
+
+    /**
+     * returns the exported object
+     * @return the object or null if this instance was cloned or deserialized
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * returns the exported object if it is an instance of the class
+     * @param object the object to check
+     * @param clazz the class of the exported object
+     * @param <X> the type of the exported object
+     * @return an Optional containing the exported object
+     */
+    public static <X> Optional<X> getValue(Object object, Class<X> clazz) {
+        if (!(object instanceof LazyExport))
+            return Optional.empty();
+        Object value = ((LazyExport<?, ?>) object).getValue();
+        if (clazz.isInstance(value))
+            return Optional.of(clazz.cast(value));
+        return Optional.empty();
+    }
+
+    /**
+     * fills the HashMap with the descriptor-entries if not already done
+     */
+    private void materialize() {
+        if (materialized)
+            return;
+        synchronized (this) {
+            if (materialized)
+                return;
+            super.putAll(exporter.apply(value));
+            exporter = null;
+            materialized = true;
+        }
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return super.isEmpty();
+    }
+
+    @Override
+    public V get(Object key) {
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends V> m) {
+        materialize();
+        super.putAll(m);
+    }
+
+    @Override
+    public V remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        materialize();
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V putIfAbsent(String key, V value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, V oldValue, V newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(String key, V value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super V, ? extends V> function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    /**
+     * returns a plain HashMap containing the descriptor-entries
+     * @return a HashMap
+     */
+    @Override
+    public Object clone() {
+        materialize();
+        return new HashMap<>(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        materialize();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return super.toString();
+    }
+
+    /**
+     * serializes as a plain HashMap
+     * @return a HashMap
+     */
+    private Object writeReplace() {
+        return clone();
+    }
+}
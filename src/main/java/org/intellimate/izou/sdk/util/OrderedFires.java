@@ -0,0 +1,34 @@
+package org.intellimate.izou.sdk.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * chains the asynchronous fires of every source, so that its Events are fired in the order they were passed
+ * (held by the Context, see {@link FireEvent#fireAsyncInOrder(org.intellimate.izou.sdk.events.Event)}).
+ * @version 1.0
+ */
+final class OrderedFires {
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> last = new ConcurrentHashMap<>();
+
+    /**
+     * fires after the previous fire of the source is done
+     * @param sourceID the ID of the source
+     * @param fire starts the fire
+     * @return a CompletableFuture completed with true if fired, false if unable
+     */
+    synchronized CompletableFuture<Boolean> fire(String sourceID, Supplier<CompletableFuture<Boolean>> fire) {
+        CompletableFuture<Boolean> previous = last.get(sourceID);
+        CompletableFuture<Boolean> next;
+        if (previous == null || previous.isDone()) {
+            next = fire.get();
+        } else {
+            next = previous.handle((fired, throwable) -> null).thenCompose(ignored -> fire.get());
+        }
+        last.put(sourceID, next);
+        next.whenComplete((fired, throwable) -> last.remove(sourceID, next));
+        return next;
+    }
+}
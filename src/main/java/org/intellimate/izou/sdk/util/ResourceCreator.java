@@ -2,7 +2,6 @@ package org.intellimate.izou.sdk.util;
 
 import org.intellimate.izou.identification.Identifiable;
 import org.intellimate.izou.identification.Identification;
-import org.intellimate.izou.identification.IdentificationManagerM;
 import org.intellimate.izou.sdk.resource.Resource;
 
 import java.util.ArrayList;
@@ -15,7 +14,7 @@ import java.util.Optional;
  * @version 1.0
  * @see Resource
  */
-public interface ResourceCreator extends ContextProvider, Identifiable {
+public interface ResourceCreator extends ContextProvider, IdentificationProvider {
     /**
      * creates a new Resource with the specified ID (=Name)
      * @param id the id
@@ -61,7 +60,7 @@ public interface ResourceCreator extends ContextProvider, Identifiable {
             getContext().getLogger().error("resource id is null or empty");
             return Optional.empty();
         }
-        Optional<Resource<T>> generated = IdentificationManagerM.getInstance().getIdentification(this)
+        Optional<Resource<T>> generated = getIdentification()
                 .map(idProvider -> new Resource<>(id, idProvider, t, consumer));
         if (!generated.isPresent())
             getContext().getLogger().error("unable to generate Resource");
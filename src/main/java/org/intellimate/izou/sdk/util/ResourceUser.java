@@ -17,7 +17,7 @@ import java.util.concurrent.CompletableFuture;
 // useful. We should implement the tip and return CompletableFuture and log if there was an error obtaining the ID.
 // The question is whether to archive this without breaking backwards compatibility (might turn really ugly and i like
 // the current method name)
-public interface ResourceUser extends ContextProvider, Identifiable {
+public interface ResourceUser extends ContextProvider, IdentificationProvider {
     /**
      * generates the specified resource from the first matching ResourceBuilder (use the ID if you want to be sure).
      * tip: for a better coding experience: use the method
@@ -44,8 +44,7 @@ public interface ResourceUser extends ContextProvider, Identifiable {
      * @return an Optional containing a future of a list of results
      */
     default Optional<CompletableFuture<List<ResourceModel>>> generateResource(String resourceID, Identification provider) {
-        return IdentificationManagerM.getInstance()
-                .getIdentification(this)
+        return getIdentification()
                 .map(id -> new Resource(resourceID, provider, id))
                 .flatMap(resource -> {
                     try {
@@ -1,13 +1,12 @@
 package org.intellimate.izou.sdk.util;
 
+import org.intellimate.izou.sdk.metrics.Histogram;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.*;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * provides various methods to simplify the interaction with the ThreadPool
@@ -15,6 +14,11 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public interface ThreadPoolUser extends ContextProvider {
+    /**
+     * the name of the Histogram of the time the submitted tasks waited for a thread
+     */
+    String QUEUE_WAIT = "threadPool.queueWait";
+
     /**
      * submits the Runnable to the AddOns Thread-Pool
      * @param runnable the runnable to submit
@@ -32,7 +36,12 @@ public interface ThreadPoolUser extends ContextProvider {
      * @see java.util.concurrent.ExecutorService#submit(Callable)
      */
     default CompletableFuture<Void> submitRun(Runnable runnable) {
-        return CompletableFuture.runAsync(runnable, getContext().getThreadPool().getThreadPool())
+        Histogram queueWait = getContext().getMetrics().getHistogram(QUEUE_WAIT);
+        long submitted = System.nanoTime();
+        return CompletableFuture.runAsync(() -> {
+                    queueWait.recordSince(submitted);
+                    runnable.run();
+                }, getContext().getThreadPool().getThreadPool())
                 .whenComplete((u, ex) -> {
                     if (ex != null) {
                         getContext().getThreadPool().handleThrowable(ex, runnable);
@@ -48,7 +57,12 @@ public interface ThreadPoolUser extends ContextProvider {
      * @see java.util.concurrent.ExecutorService#submit(Callable)
      */
     default <U> CompletableFuture<U> submit(Supplier<U> supplier) {
-        return CompletableFuture.supplyAsync(supplier, getContext().getThreadPool().getThreadPool())
+        Histogram queueWait = getContext().getMetrics().getHistogram(QUEUE_WAIT);
+        long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+                    queueWait.recordSince(submitted);
+                    return supplier.get();
+                }, getContext().getThreadPool().getThreadPool())
                 .whenComplete((u, ex) -> {
                     if (ex != null) {
                         getContext().getThreadPool().handleThrowable(ex, supplier);
@@ -70,8 +84,13 @@ public interface ThreadPoolUser extends ContextProvider {
 
     /**
      * Times out the collection of futures.
+     * <p>
+     * Waits until all the futures are done or the limit is exceeded, the futures which are not done by then will get
+     * cancelled. If all the futures are CompletableFutures, the timeout is tracked by the Scheduler of the AddOn (see
+     * {@link #timeOutAsync(Collection, int)}) and the caller only waits for the result.
+     * </p>
      * @param futures the collection of futures
-     * @param milliseconds the limit in milliseconds (everything under 20 milliseconds makes no sense)
+     * @param milliseconds the limit in milliseconds
      * @param <U> the return type of the futures
      * @param <V> the type of the futures
      * @return a List of futures
@@ -79,32 +98,74 @@ public interface ThreadPoolUser extends ContextProvider {
      */
     default <U, V extends Future<U>> List<V> timeOut(Collection<? extends V> futures,
                                                      int milliseconds) throws InterruptedException {
-        //Timeout
-        int start = 0;
-        boolean notFinished = true;
-        while ( (start < milliseconds) && notFinished) {
-            notFinished = futures.stream()
-                    .anyMatch(future -> !future.isDone());
-            start = start + 10;
-            Thread.sleep(10);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(milliseconds);
+        List<CompletableFuture<U>> completableFutures = new ArrayList<>(futures.size());
+        for (V future : futures) {
+            if (!(future instanceof CompletableFuture)) {
+                completableFutures = null;
+                break;
+            }
+            //noinspection unchecked
+            completableFutures.add((CompletableFuture<U>) future);
+        }
+        if (completableFutures != null) {
+            try {
+                timeOutAsync(completableFutures, milliseconds).get(milliseconds, TimeUnit.MILLISECONDS);
+                return Futures.cancelUnfinished(futures, this);
+            } catch (ExecutionException | TimeoutException e) {
+                return Futures.cancelUnfinished(futures, this);
+            } catch (RejectedExecutionException e) {
+                error("unable to schedule timeout, waiting for the futures", e);
+            }
         }
-        //cancel all running tasks
-        if(notFinished) {
-            futures.stream()
-                    .filter(future -> !future.isDone())
-                    .peek(future -> error(future.toString()+ " timed out"))
-                    .forEach(future -> future.cancel(true));
+        for (V future : futures) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                break;
+            try {
+                future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | CancellationException ignored) {
+                //the future is done
+            } catch (TimeoutException e) {
+                break;
+            }
         }
-        return futures.stream()
-                .filter(Future::isDone)
-                .collect(Collectors.<V>toList());
+        return Futures.cancelUnfinished(futures, this);
+    }
+
+    /**
+     * Times out the collection of futures without blocking.
+     * <p>
+     * The returned future gets completed when all the futures are done or the limit is exceeded, the futures which
+     * are not done by then will get cancelled. The timeout is tracked by the Scheduler of the AddOn.
+     * </p>
+     * @param futures the collection of futures
+     * @param milliseconds the limit in milliseconds
+     * @param <U> the return type of the futures
+     * @param <V> the type of the futures
+     * @return a future of the List of done futures
+     */
+    default <U, V extends CompletableFuture<U>> CompletableFuture<List<V>> timeOutAsync(Collection<? extends V> futures,
+                                                                                      int milliseconds) {
+        List<V> list = new ArrayList<>(futures);
+        CompletableFuture<List<V>> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeout = getContext().getThreadPool().getScheduler().schedule(() -> {
+            if (!result.isDone())
+                result.complete(Futures.cancelUnfinished(list, this));
+        }, milliseconds, TimeUnit.MILLISECONDS);
+        CompletableFuture.allOf(list.toArray(new CompletableFuture[list.size()]))
+                .whenComplete((ignored, throwable) -> {
+                    timeout.cancel(false);
+                    result.complete(list);
+                });
+        return result;
     }
 
     /**
      * Creates a new CompletableFuture, which inherit the CompletionStage from the supplied future or an exceptional
      * completion with the TimeoutException.
      * <p>
-     * It will NOT cancel/interrupt the original future!
+     * It will NOT cancel/interrupt the original future! The timeout is tracked by the Scheduler of the AddOn.
      * </p>
      * @param future the future
      * @param milliseconds the limit in milliseconds
@@ -113,22 +174,16 @@ public interface ThreadPoolUser extends ContextProvider {
      */
     default <U> CompletableFuture<U> timeOut(CompletableFuture<U> future, int milliseconds) {
         CompletableFuture<U> combiner = new CompletableFuture<>();
-        Future<?> timout = getContext().getThreadPool().getThreadPool().submit(() -> {
-            try {
-                Thread.sleep(milliseconds);
-            } catch (InterruptedException ignored) {}
-            if (!combiner.isDone())
-                combiner.completeExceptionally(new TimeoutException("timout of " + milliseconds + " exceeded"));
-        });
+        ScheduledFuture<?> timeout = getContext().getThreadPool().getScheduler().schedule(() -> {
+            combiner.completeExceptionally(new TimeoutException("timout of " + milliseconds + " exceeded"));
+        }, milliseconds, TimeUnit.MILLISECONDS);
         future.whenComplete((result, throwable) -> {
-            if (!combiner.isDone()) {
-                if (result != null) {
-                    combiner.complete(result);
-                } else {
-                    combiner.completeExceptionally(throwable);
-                }
-                timout.cancel(true);
+            if (throwable == null) {
+                combiner.complete(result);
+            } else {
+                combiner.completeExceptionally(throwable);
             }
+            timeout.cancel(false);
         });
         return combiner;
     }